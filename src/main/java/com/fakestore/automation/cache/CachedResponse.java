@@ -0,0 +1,137 @@
+package com.fakestore.automation.cache;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response kept by {@link ResponseCache} or shared by {@link SingleFlight}: status, headers and the whole body,
+ * with the validators the server sent for revalidating it. Immutable; every {@link #toResponse()} builds a fresh
+ * {@link Response}, so callers never share one.
+ */
+public final class CachedResponse {
+    // Headers of a 304 that replace the stored ones when it renews the response
+    private static final List<String> RENEWED_HEADERS = List.of("ETag", "Last-Modified", "Cache-Control");
+
+    private final int statusCode;
+    private final String statusLine;
+    private final Headers headers;
+    private final String contentType;
+    private final byte[] body;
+    private final String etag;
+    private final String lastModified;
+    private final long expiresAtNanos;
+    private final long timeMillis;
+
+    CachedResponse(Response response, byte[] body, long expiresAtNanos) {
+        this(response, body, expiresAtNanos, 0);
+    }
+
+
+    private CachedResponse(Response response, byte[] body, long expiresAtNanos, long timeMillis) {
+        this(response.getStatusCode(), response.getStatusLine(), response.getHeaders(), response.getContentType(), body,
+                response.getHeader("ETag"), response.getHeader("Last-Modified"), expiresAtNanos, timeMillis);
+    }
+
+
+    /**
+     * An immutable copy of {@code response} to hand to several callers, reading its body; the response stays readable.
+     * It is not meant for caching and is already expired; its responses report the time {@code response} took.
+     */
+    public static CachedResponse snapshot(Response response) {
+        return new CachedResponse(response, response.asByteArray(), System.nanoTime(), response.getTime());
+    }
+
+
+    private CachedResponse(int statusCode, String statusLine, Headers headers, String contentType, byte[] body,
+                           String etag, String lastModified, long expiresAtNanos, long timeMillis) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.contentType = contentType;
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.expiresAtNanos = expiresAtNanos;
+        this.timeMillis = timeMillis;
+    }
+
+
+    /**
+     * The {@code ETag} of the response, for an {@code If-None-Match} revalidation; null if the server sent none.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+
+    /**
+     * The {@code Last-Modified} of the response, for an {@code If-Modified-Since} revalidation; null if the server
+     * sent none.
+     */
+    public String getLastModified() {
+        return lastModified;
+    }
+
+
+    public boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+
+
+    public boolean isFresh() {
+        return System.nanoTime() - expiresAtNanos < 0;
+    }
+
+
+    public Response toResponse() {
+        Response response = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(headers)
+                .setContentType(contentType)
+                .setBody(body)
+                .build();
+        // 0 for a cached response, which was not sent; getTime() fails on a built response without it
+        if (response instanceof RestAssuredResponseImpl restAssuredResponse) {
+            restAssuredResponse.setFilterContextProperties(Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, timeMillis));
+        }
+        return response;
+    }
+
+
+    int weight() {
+        return body.length;
+    }
+
+
+    /**
+     * This response renewed by {@code notModified}, the 304 that revalidated it: the {@code ETag},
+     * {@code Last-Modified} and {@code Cache-Control} it sent replace the stored ones, the rest are kept.
+     */
+    CachedResponse revalidatedBy(Response notModified, long expiresAtNanos) {
+        Headers renewing = notModified.getHeaders();
+        List<Header> merged = new ArrayList<>();
+        for (Header header : headers) {
+            boolean renewed = RENEWED_HEADERS.stream().anyMatch(name -> name.equalsIgnoreCase(header.getName()));
+            if (!renewed || !renewing.hasHeaderWithName(header.getName())) {
+                merged.add(header);
+            }
+        }
+        for (String name : RENEWED_HEADERS) {
+            merged.addAll(renewing.getList(name));
+        }
+        String renewedEtag = renewing.getValue("ETag");
+        String renewedLastModified = renewing.getValue("Last-Modified");
+        return new CachedResponse(statusCode, statusLine, new Headers(merged), contentType, body,
+                renewedEtag != null ? renewedEtag : etag, renewedLastModified != null ? renewedLastModified : lastModified,
+                expiresAtNanos, timeMillis);
+    }
+}
@@ -0,0 +1,201 @@
+package com.fakestore.automation.cache;
+
+import com.fakestore.automation.config.FrameworkConfig;
+import io.restassured.response.Response;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in read-through cache of GET responses, shared by all service instances of the current configuration.
+ * <p>
+ * Only 200 responses without {@code Cache-Control: no-store} are kept, for {@code cache.ttlMs}. Up to
+ * {@code cache.maxEntries} responses and {@code cache.maxBytes} of bodies are kept; the least recently used are
+ * evicted first. An expired response the server sent an {@code ETag} or {@code Last-Modified} for is not dropped but
+ * revalidated: the caller sends a conditional request, and a 304 renews it without the body crossing the wire again.
+ * Writes invalidate the responses of the collection they change, see {@link #invalidate(String)}.
+ * <p>
+ * Keys are resolved URLs, so {@code /products/1} and {@code /products/2} are cached apart.
+ */
+public final class ResponseCache {
+    public static final String ENABLED_PROPERTY = "cache.enabled";
+    public static final String TTL_PROPERTY = "cache.ttlMs";
+    public static final String MAX_ENTRIES_PROPERTY = "cache.maxEntries";
+    public static final String MAX_BYTES_PROPERTY = "cache.maxBytes";
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long maxBytes;
+    // Access order, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    // Bumped by every invalidation, so a response requested before a write is not cached after it
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder invalidated = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public ResponseCache(boolean enabled, long ttlMillis, int maxEntries, long maxBytes) {
+        if (ttlMillis < 0 || maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("Response cache needs ttlMs >= 0, maxEntries >= 1 and maxBytes >= 1, but got: "
+                    + ttlMillis + ", " + maxEntries + ", " + maxBytes);
+        }
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+
+    public static ResponseCache from(FrameworkConfig config) {
+        return new ResponseCache(config.getBoolean(ENABLED_PROPERTY), config.getLong(TTL_PROPERTY),
+                config.getInt(MAX_ENTRIES_PROPERTY), config.getLong(MAX_BYTES_PROPERTY));
+    }
+
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+
+    /**
+     * The response cached under {@code key}, fresh or expired, or null. A fresh one is counted as a hit, anything
+     * else as a miss.
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached;
+        synchronized (this) {
+            cached = entries.get(key);
+        }
+        if (cached != null && cached.isFresh()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+
+    /**
+     * Marks the state of the cache before a request is sent, for {@link #put}.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+
+    /**
+     * Caches {@code response} under {@code key} if it may be cached and nothing was invalidated since
+     * {@code generation}, reading its body to do so; the response stays readable.
+     */
+    public void put(String key, Response response, long generation) {
+        if (response.getStatusCode() != 200 || isNoStore(response.getHeader("Cache-Control"))) {
+            return;
+        }
+        byte[] body = response.asByteArray();
+        if (body.length > maxBytes) {
+            return;
+        }
+        store(key, new CachedResponse(response, body, System.nanoTime() + ttlNanos), generation);
+    }
+
+
+    /**
+     * Renews {@code cached} after the server answered its revalidation with {@code notModified}, a 304, and returns
+     * it as a response. The validators and {@code Cache-Control} of the 304 replace the stored ones; if it says
+     * {@code no-store}, the response is returned but no longer kept.
+     */
+    public Response revalidated(String key, CachedResponse cached, Response notModified, long generation) {
+        revalidated.increment();
+        CachedResponse renewed = cached.revalidatedBy(notModified, System.nanoTime() + ttlNanos);
+        if (isNoStore(notModified.getHeader("Cache-Control"))) {
+            remove(key);
+        } else {
+            store(key, renewed, generation);
+        }
+        return renewed.toResponse();
+    }
+
+
+    /**
+     * Drops the responses of the collection at {@code collectionKey} and of everything under it: the key itself,
+     * {@code collectionKey/...} and {@code collectionKey?...}.
+     */
+    public synchronized void invalidate(String collectionKey) {
+        generation++;
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, CachedResponse> entry = iterator.next();
+            if (isUnder(entry.getKey(), collectionKey)) {
+                bytes -= entry.getValue().weight();
+                iterator.remove();
+                invalidated.increment();
+            }
+        }
+    }
+
+
+    /**
+     * What the cache did so far, for {@code RequestPolicies#logSummary}.
+     */
+    public String summary() {
+        if (!enabled) {
+            return "off";
+        }
+        int size;
+        long cachedBytes;
+        synchronized (this) {
+            size = entries.size();
+            cachedBytes = bytes;
+        }
+        return "hits " + hits.sum() + ", misses " + misses.sum() + ", revalidated " + revalidated.sum()
+                + ", invalidated " + invalidated.sum() + ", evicted " + evicted.sum()
+                + ", entries " + size + " (" + cachedBytes + " bytes)";
+    }
+
+
+    private synchronized void store(String key, CachedResponse cached, long requestedAt) {
+        if (requestedAt != generation) {
+            return;
+        }
+        CachedResponse previous = entries.put(key, cached);
+        if (previous != null) {
+            bytes -= previous.weight();
+        }
+        bytes += cached.weight();
+        Iterator<CachedResponse> leastRecentlyUsed = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && leastRecentlyUsed.hasNext()) {
+            bytes -= leastRecentlyUsed.next().weight();
+            leastRecentlyUsed.remove();
+            evicted.increment();
+        }
+    }
+
+
+    // The collection key itself, collectionKey/... or collectionKey?...
+    static boolean isUnder(String key, String collectionKey) {
+        return key.startsWith(collectionKey) && (key.length() == collectionKey.length()
+                || key.charAt(collectionKey.length()) == '/' || key.charAt(collectionKey.length()) == '?');
+    }
+
+
+    private synchronized void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.weight();
+        }
+    }
+
+
+    private static boolean isNoStore(String cacheControl) {
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store");
+    }
+}
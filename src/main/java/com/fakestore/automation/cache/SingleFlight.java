@@ -0,0 +1,168 @@
+package com.fakestore.automation.cache;
+
+import com.fakestore.automation.config.FrameworkConfig;
+import com.fakestore.automation.metrics.TestRequestStats;
+import com.fakestore.automation.resilience.RetryPolicy;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical requests that are in flight at the same time: the first caller for a key sends the request,
+ * callers arriving before it completes wait for it and get a copy of its response, or its failure. Nothing is kept
+ * once the request completes, so there is no staleness to reason about - the next caller sends again. A write
+ * detaches the flights of the collection it changes, see {@link #detach(String)}.
+ * <p>
+ * The response is only copied when someone joined, so a request nobody else asked for costs one map update.
+ * Callers served by a request in flight get its measured time and are counted in {@link TestRequestStats}
+ * apart from the requests a test sent. Enabled with {@code coalesce.enabled}; meant for idempotent reads.
+ */
+public final class SingleFlight {
+    public static final String ENABLED_PROPERTY = "coalesce.enabled";
+
+    private final boolean enabled;
+    private final long awaitNanos;
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param await how long a caller waits for the request in flight before failing
+     */
+    public SingleFlight(boolean enabled, Duration await) {
+        this.enabled = enabled;
+        this.awaitNanos = await.toNanos();
+    }
+
+
+    /**
+     * Callers wait for as long as the request in flight may take: every attempt retries allow, each up to the
+     * connect and read timeouts, and the longest backoff between them.
+     */
+    public static SingleFlight from(FrameworkConfig config) {
+        int attempts = config.getInt(RetryPolicy.MAX_ATTEMPTS_PROPERTY);
+        long attemptMillis = (long) config.getConnectTimeoutMillis() + config.getReadTimeoutMillis();
+        long backoffMillis = config.getLong(RetryPolicy.MAX_DELAY_PROPERTY);
+        return new SingleFlight(config.getBoolean(ENABLED_PROPERTY),
+                Duration.ofMillis(attempts * attemptMillis + (attempts - 1) * backoffMillis));
+    }
+
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+
+    /**
+     * Runs {@code call} for {@code key}, unless a call for the same key is already in flight; then waits for that
+     * one and returns a copy of its response, or fails with an {@link IllegalStateException} caused by its failure.
+     */
+    public Response execute(String key, Supplier<Response> call) {
+        Flight[] joined = new Flight[1];
+        Flight flight = inFlight.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return new Flight();
+            }
+            existing.followers++;
+            joined[0] = existing;
+            return existing;
+        });
+        if (joined[0] != null) {
+            coalesced.increment();
+            TestRequestStats testStats = TestRequestStats.current();
+            if (testStats != null) {
+                testStats.recordCoalesced();
+            }
+            return await(key, flight).toResponse();
+        }
+
+        sent.increment();
+        try {
+            Response response = call.get();
+            if (land(key, flight) == 0) {
+                return response;
+            }
+            CachedResponse snapshot = CachedResponse.snapshot(response);
+            flight.result.complete(snapshot);
+            return snapshot.toResponse();
+        } catch (Throwable failure) {
+            // Throwable, so followers never wait for a result that will not come; RestAssured also throws
+            // IOExceptions without declaring them
+            land(key, flight);
+            flight.result.completeExceptionally(failure);
+            throw failure;
+        }
+    }
+
+
+    /**
+     * Detaches the flights of the collection at {@code collectionKey} and of everything under it, matched like
+     * {@link ResponseCache#invalidate(String)}: callers that already joined still get their response, but callers
+     * arriving after a write send a request of their own instead of joining one sent before it.
+     */
+    public void detach(String collectionKey) {
+        inFlight.keySet().removeIf(key -> ResponseCache.isUnder(key, collectionKey));
+    }
+
+
+    /**
+     * Requests served by an identical one in flight, rather than sent.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+
+    /**
+     * How many requests were sent and how many were served by one in flight, for {@code RequestPolicies#logSummary}.
+     */
+    public String summary() {
+        if (!enabled) {
+            return "off";
+        }
+        return "sent " + sent.sum() + ", served by a request in flight " + coalesced.sum();
+    }
+
+
+    // Ends the flight, so later callers send again; returns how many callers joined it. A detached flight is no
+    // longer in the map, and whoever joined it before is counted already
+    private int land(String key, Flight flight) {
+        int[] followers = new int[1];
+        inFlight.compute(key, (k, existing) -> {
+            followers[0] = flight.followers;
+            return existing == flight ? null : existing;
+        });
+        return followers[0];
+    }
+
+
+    private CachedResponse await(String key, Flight flight) {
+        try {
+            return flight.result.get(awaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the request in flight for " + key, e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Request in flight for " + key + " did not complete within "
+                    + TimeUnit.NANOSECONDS.toMillis(awaitNanos) + " ms", e);
+        } catch (ExecutionException e) {
+            // A failure of its own, so callers never share, and add suppressed exceptions to, one instance
+            throw new IllegalStateException("Request in flight for " + key + " failed", e.getCause());
+        }
+    }
+
+
+    // Followers are only counted inside the map's compute functions, which serialize them per key
+    private static final class Flight {
+        private final CompletableFuture<CachedResponse> result = new CompletableFuture<>();
+        private int followers;
+    }
+}
@@ -0,0 +1,62 @@
+package com.fakestore.automation.capture;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * What was kept of one response: the request line, the status, the body size, and the body itself
+ * in full, truncated, or only as a hash, depending on the {@link CaptureMode}.
+ * Capturing only copies bytes; formatting happens in {@link #toString()} and {@link #render()}, so it is
+ * paid for only when a capture is logged or reported.
+ */
+public record BodyCapture(String request, int statusCode, long bodyBytes, String body, boolean truncated, String sha256) {
+
+    public boolean hasBody() {
+        return body != null;
+    }
+
+
+    /**
+     * The capture for a report, with a complete JSON body pretty-printed.
+     */
+    public String render() {
+        StringBuilder text = new StringBuilder(header()).append('\n');
+        if (body == null) {
+            text.append(sha256 != null ? "sha256: " + sha256 : "(body not captured)");
+        } else if (truncated) {
+            text.append(body).append("\n... truncated, ").append(bodyBytes).append(" bytes in total");
+        } else {
+            text.append(prettyPrint(body));
+        }
+        return text.toString();
+    }
+
+
+    @Override
+    public String toString() {
+        if (body == null) {
+            return header() + (sha256 != null ? " sha256=" + sha256 : "");
+        }
+        return header() + " " + body + (truncated ? "..." : "");
+    }
+
+
+    private String header() {
+        return request + " -> " + statusCode + " (" + bodyBytes + " bytes)";
+    }
+
+
+    private static String prettyPrint(String json) {
+        if (json.isBlank()) {
+            return "(empty body)";
+        }
+        try {
+            JsonElement tree = JsonParser.parseString(json);
+            return new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().serializeNulls().create().toJson(tree);
+        } catch (JsonParseException e) {
+            return json;
+        }
+    }
+}
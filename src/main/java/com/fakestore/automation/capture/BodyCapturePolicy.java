@@ -0,0 +1,86 @@
+package com.fakestore.automation.capture;
+
+import com.fakestore.automation.config.FrameworkConfig;
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Applies a {@link CaptureMode} to responses. Truncation cuts the raw bytes before any decoding, at the last
+ * character boundary within {@code capture.maxBytes}, so a 10 MB listing costs a copy of at most that many bytes,
+ * not a 10 MB string.
+ */
+public final class BodyCapturePolicy {
+    private final CaptureMode mode;
+    private final int maxBytes;
+
+    public BodyCapturePolicy(CaptureMode mode, int maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException(CaptureMode.MAX_BYTES_PROPERTY + " must be at least 1, but was: " + maxBytes);
+        }
+        this.mode = mode;
+        this.maxBytes = maxBytes;
+    }
+
+
+    public static BodyCapturePolicy from(FrameworkConfig config) {
+        return new BodyCapturePolicy(CaptureMode.from(config), config.getInt(CaptureMode.MAX_BYTES_PROPERTY));
+    }
+
+
+    public CaptureMode getMode() {
+        return mode;
+    }
+
+
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+
+    /**
+     * Captures the response under this policy; {@code null} when the mode is {@link CaptureMode#OFF}.
+     * Reads the body, so it must not be used on responses whose body is streamed.
+     */
+    public BodyCapture capture(String request, Response response) {
+        if (mode == CaptureMode.OFF) {
+            return null;
+        }
+        byte[] bytes = response.asByteArray();
+        return switch (mode) {
+            case FULL -> new BodyCapture(request, response.getStatusCode(), bytes.length,
+                    new String(bytes, StandardCharsets.UTF_8), false, null);
+            case TRUNCATED -> {
+                boolean truncated = bytes.length > maxBytes;
+                String body = new String(bytes, 0, truncated ? characterBoundary(bytes, maxBytes) : bytes.length,
+                        StandardCharsets.UTF_8);
+                yield new BodyCapture(request, response.getStatusCode(), bytes.length, body, truncated, null);
+            }
+            case HASH -> new BodyCapture(request, response.getStatusCode(), bytes.length, null, false, sha256(bytes));
+            case OFF -> throw new IllegalStateException("OFF is handled above");
+        };
+    }
+
+
+    // The largest length up to limit that does not split a UTF-8 character: a cut before a continuation byte
+    // (10xxxxxx) would decode the partial character as U+FFFD, so back off to its lead byte
+    private static int characterBoundary(byte[] bytes, int limit) {
+        int end = limit;
+        while (end > 0 && limit - end < 3 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return (bytes[end] & 0xC0) == 0x80 ? limit : end;
+    }
+
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
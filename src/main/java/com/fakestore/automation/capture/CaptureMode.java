@@ -0,0 +1,34 @@
+package com.fakestore.automation.capture;
+
+import com.fakestore.automation.config.FrameworkConfig;
+
+import java.util.Locale;
+
+/**
+ * How much of each response body is kept for the report of a failed test.
+ * Selected with the {@code capture.mode} setting of {@link FrameworkConfig}; the limit of the truncated
+ * mode is {@code capture.maxBytes}.
+ */
+public enum CaptureMode {
+    /** The whole body. */
+    FULL,
+    /** The first {@code capture.maxBytes} bytes of the body. */
+    TRUNCATED,
+    /** Only the size and SHA-256 of the body, e.g. when bodies may hold sensitive data. */
+    HASH,
+    /** Nothing, and the body is not read for capturing. */
+    OFF;
+
+    public static final String MODE_PROPERTY = "capture.mode";
+    public static final String MAX_BYTES_PROPERTY = "capture.maxBytes";
+
+
+    public static CaptureMode from(FrameworkConfig config) {
+        String mode = config.getString(MODE_PROPERTY);
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown capture mode '" + mode + "', expected one of: full, truncated, hash, off", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fakestore.automation.capture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The captures of the test running on the current thread, kept so the report can show them if it fails.
+ * Recording is only active between {@link #begin()} and {@link #end()}, which the report listener calls
+ * around each test; outside a test (load runs, suite setup) services capture nothing and read no bodies
+ * for it. Only the last {@value #MAX_PER_TEST} responses of a test are kept.
+ */
+public final class ResponseCaptures {
+    public static final int MAX_PER_TEST = 10;
+
+    private static final ThreadLocal<Deque<BodyCapture>> current = new ThreadLocal<>();
+
+    private ResponseCaptures() {
+    }
+
+
+    public static void begin() {
+        current.set(new ArrayDeque<>());
+    }
+
+
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+
+    public static void record(BodyCapture capture) {
+        Deque<BodyCapture> captures = current.get();
+        if (captures == null || capture == null) {
+            return;
+        }
+        if (captures.size() == MAX_PER_TEST) {
+            captures.removeFirst();
+        }
+        captures.addLast(capture);
+    }
+
+
+    /**
+     * The captures recorded since {@link #begin()}, oldest first.
+     */
+    public static List<BodyCapture> get() {
+        Deque<BodyCapture> captures = current.get();
+        return captures == null ? List.of() : new ArrayList<>(captures);
+    }
+
+
+    public static void end() {
+        current.remove();
+    }
+}
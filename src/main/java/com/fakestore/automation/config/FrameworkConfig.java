@@ -0,0 +1,190 @@
+package com.fakestore.automation.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Framework settings for the selected environment profile, resolved once per process.
+ * <p>
+ * The profile is chosen with {@code -Denv=<name>} or the {@code FAKESTORE_ENV} environment variable
+ * and defaults to {@code prod}. Every supported key is declared with its default in
+ * {@code config/default.properties}; {@code config/<profile>.properties} overrides those defaults.
+ * A single key can still be overridden with a system property of the same name
+ * ({@code -Dpool.maxTotal=400}) or an environment variable ({@code FAKESTORE_POOL_MAXTOTAL=400}),
+ * system properties taking precedence.
+ */
+public final class FrameworkConfig {
+    private static final Logger logger = LogManager.getLogger(FrameworkConfig.class);
+
+    public static final String PROFILE_PROPERTY = "env";
+    private static final String PROFILE_ENV_VARIABLE = "FAKESTORE_ENV";
+    private static final String ENV_VARIABLE_PREFIX = "FAKESTORE_";
+    private static final String DEFAULT_PROFILE = "prod";
+
+    private static volatile FrameworkConfig instance;
+
+    private final String profile;
+    private final Map<String, String> values;
+
+    private FrameworkConfig(String profile, Map<String, String> values) {
+        this.profile = profile;
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+
+    public static FrameworkConfig get() {
+        FrameworkConfig config = instance;
+        if (config == null) {
+            synchronized (FrameworkConfig.class) {
+                config = instance;
+                if (config == null) {
+                    config = load();
+                    instance = config;
+                }
+            }
+        }
+        return config;
+    }
+
+
+    private static FrameworkConfig load() {
+        String profile = System.getProperty(PROFILE_PROPERTY, System.getenv().getOrDefault(PROFILE_ENV_VARIABLE, DEFAULT_PROFILE));
+
+        Properties defaults = readProfile("default");
+        Properties overrides = readProfile(profile);
+
+        Map<String, String> resolved = new TreeMap<>();
+        for (String key : defaults.stringPropertyNames()) {
+            String envVariable = ENV_VARIABLE_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_');
+            String value = System.getProperty(key);
+            if (value == null) {
+                value = System.getenv(envVariable);
+            }
+            if (value == null) {
+                value = overrides.getProperty(key, defaults.getProperty(key));
+            }
+            resolved.put(key, value.trim());
+        }
+        for (String key : overrides.stringPropertyNames()) {
+            if (!resolved.containsKey(key)) {
+                throw new IllegalStateException("Profile '" + profile + "' sets unknown key '" + key
+                        + "', every key must be declared in config/default.properties");
+            }
+        }
+
+        logger.info("Loaded configuration profile '{}': {}", profile, resolved);
+        return new FrameworkConfig(profile, resolved);
+    }
+
+
+    private static Properties readProfile(String name) {
+        String resource = "config/" + name + ".properties";
+        Properties properties = new Properties();
+        try (InputStream in = FrameworkConfig.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown configuration profile '" + name + "', missing " + resource);
+            }
+            properties.load(in);
+            return properties;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read configuration profile: " + resource, e);
+        }
+    }
+
+
+    /**
+     * Copy of this configuration targeting another host, e.g. a stand-in started on a free port.
+     */
+    public FrameworkConfig withBaseUri(String baseUri) {
+        Map<String, String> copy = new TreeMap<>(values);
+        copy.put("base.uri", baseUri);
+        return new FrameworkConfig(profile, copy);
+    }
+
+
+    public String getProfile() {
+        return profile;
+    }
+
+
+    public String getBaseUri() {
+        return getString("base.uri");
+    }
+
+
+    public int getConnectTimeoutMillis() {
+        return getInt("http.connectTimeoutMs");
+    }
+
+
+    public int getReadTimeoutMillis() {
+        return getInt("http.readTimeoutMs");
+    }
+
+
+    public boolean isStandInEnabled() {
+        return getBoolean("standin.enabled");
+    }
+
+
+    public int getStandInPort() {
+        return getInt("standin.port");
+    }
+
+
+    public int getStandInProducts() {
+        return getInt("standin.products");
+    }
+
+
+    public String getString(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown configuration key: " + key);
+        }
+        return value;
+    }
+
+
+    public int getInt(String key) {
+        String value = getString(key);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Configuration key '" + key + "' should be an integer, but was: " + value, e);
+        }
+    }
+
+
+    public long getLong(String key) {
+        String value = getString(key);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Configuration key '" + key + "' should be a number, but was: " + value, e);
+        }
+    }
+
+
+    public double getDouble(String key) {
+        String value = getString(key);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Configuration key '" + key + "' should be a number, but was: " + value, e);
+        }
+    }
+
+
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(getString(key));
+    }
+}
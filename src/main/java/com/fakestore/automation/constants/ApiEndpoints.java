@@ -3,9 +3,6 @@ package com.fakestore.automation.constants;
 public class ApiEndpoints {
 
 
-    public static final String BASE_URI = "https://fakestoreapi.com";
-
-
     public static final String PRODUCTS = "/products";
     public static final String PRODUCT_BY_ID = "/products/{id}";
 
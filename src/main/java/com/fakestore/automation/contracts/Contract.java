@@ -0,0 +1,66 @@
+package com.fakestore.automation.contracts;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response contracts, one per response model, with the schemas under {@code src/main/resources/contracts}.
+ * Each schema is compiled once, when this enum is first used; the {@code _LIST} contracts validate a JSON
+ * array whose every element matches the single-object schema.
+ */
+public enum Contract {
+    PRODUCT("product.schema.json", false),
+    PRODUCT_LIST("product.schema.json", true),
+    CART("cart.schema.json", false),
+    CART_LIST("cart.schema.json", true),
+    AUTH("auth.schema.json", false),
+    ERROR("error.schema.json", false);
+
+    private static final String SCHEMA_PATH = "contracts/";
+
+    private final String schemaFile;
+    private final SchemaNode plan;
+
+    Contract(String schemaFile, boolean list) {
+        this.schemaFile = schemaFile;
+        JsonElement schema = readSchema(SCHEMA_PATH + schemaFile);
+        if (list) {
+            JsonObject array = new JsonObject();
+            array.addProperty("type", "array");
+            array.add("items", schema);
+            schema = array;
+        }
+        this.plan = SchemaNode.compile(schema, schemaFile);
+    }
+
+
+    public String getSchemaFile() {
+        return schemaFile;
+    }
+
+
+    SchemaNode plan() {
+        return plan;
+    }
+
+
+    private static JsonElement readSchema(String resource) {
+        try (InputStream in = Contract.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing contract schema: " + resource);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return JsonParser.parseReader(reader);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read contract schema: " + resource, e);
+        }
+    }
+}
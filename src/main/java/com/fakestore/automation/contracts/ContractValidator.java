@@ -0,0 +1,225 @@
+package com.fakestore.automation.contracts;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Checks a response body against a {@link Contract} in a single streaming pass: tokens are read and
+ * checked against the compiled schema as they arrive, so no tree is built and a large listing is never
+ * held in memory. Violations name the JSON path they occur at, e.g.
+ * {@code $[3].rating.rate: 7.5 is above the maximum 5.0}; paths are only built for violations.
+ * <p>
+ * At most {@value #MAX_VIOLATIONS} violations are reported; the pass stops once that many are found.
+ */
+public final class ContractValidator {
+    public static final int MAX_VIOLATIONS = 100;
+
+    private ContractValidator() {
+    }
+
+
+    public static List<String> validate(String body, Contract contract) {
+        return validate(new StringReader(body), contract);
+    }
+
+
+    /**
+     * Validates a UTF-8 body as it is read, e.g. a live response stream; the stream is not closed.
+     */
+    public static List<String> validate(InputStream body, Contract contract) {
+        return validate(new InputStreamReader(body, StandardCharsets.UTF_8), contract);
+    }
+
+
+    public static List<String> validate(Reader body, Contract contract) {
+        List<String> violations = new ArrayList<>();
+        JsonReader reader = new JsonReader(body);
+        try {
+            if (isEmpty(reader)) {
+                violations.add("$: expected " + contract.plan().typeNames + " but the body is empty");
+                return violations;
+            }
+            validate(reader, contract.plan(), violations);
+            if (violations.size() >= MAX_VIOLATIONS) {
+                return violations.subList(0, MAX_VIOLATIONS);
+            }
+            if (!isEmpty(reader)) {
+                violations.add("$: unexpected content after the end of the document");
+            }
+        } catch (MalformedJsonException | IllegalStateException e) {
+            // Gson appends a troubleshooting link on a second line
+            violations.add("malformed JSON: " + e.getMessage().lines().findFirst().orElse(""));
+        } catch (EOFException e) {
+            violations.add("malformed JSON: body ends at " + reader.getPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read response body", e);
+        }
+        return violations;
+    }
+
+
+    // Whether nothing but whitespace is left to read
+    private static boolean isEmpty(JsonReader reader) throws IOException {
+        try {
+            return reader.peek() == JsonToken.END_DOCUMENT;
+        } catch (EOFException e) {
+            return true;
+        } catch (MalformedJsonException e) {
+            return false;
+        }
+    }
+
+
+    private static void validate(JsonReader reader, SchemaNode schema, List<String> violations) throws IOException {
+        JsonToken token = reader.peek();
+        int type = typeOf(token);
+        // Integers are decided from the literal, once it has been read
+        if ((schema.types & type) == 0 && !(type == SchemaNode.NUMBER && (schema.types & SchemaNode.INTEGER) != 0)) {
+            violations.add(reader.getPath() + ": expected " + schema.typeNames + " but was " + name(token));
+            reader.skipValue();
+            return;
+        }
+        switch (token) {
+            case BEGIN_OBJECT -> validateObject(reader, schema, violations);
+            case BEGIN_ARRAY -> validateArray(reader, schema, violations);
+            case STRING -> {
+                String value = reader.nextString();
+                if (value.length() < schema.minLength) {
+                    violations.add(reader.getPreviousPath() + ": shorter than " + schema.minLength + " characters");
+                } else if (schema.enumValues != null && !schema.enumValues.contains(value)) {
+                    violations.add(reader.getPreviousPath() + ": \"" + value + "\" is not one of " + schema.enumValues);
+                }
+            }
+            case NUMBER -> validateNumber(reader, schema, violations);
+            case BOOLEAN -> reader.nextBoolean();
+            case NULL -> reader.nextNull();
+            default -> throw new IllegalStateException("Unexpected " + token + " at " + reader.getPath());
+        }
+    }
+
+
+    private static void validateObject(JsonReader reader, SchemaNode schema, List<String> violations) throws IOException {
+        boolean[] seen = new boolean[schema.required.length];
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (violations.size() >= MAX_VIOLATIONS) {
+                return;
+            }
+            String name = reader.nextName();
+            Integer requiredPosition = schema.requiredIndex.get(name);
+            if (requiredPosition != null) {
+                seen[requiredPosition] = true;
+            }
+            SchemaNode property = schema.properties.get(name);
+            if (property != null) {
+                validate(reader, property, violations);
+            } else {
+                if (!schema.additionalProperties) {
+                    violations.add(reader.getPath() + ": property is not allowed");
+                }
+                reader.skipValue();
+            }
+        }
+        // Stopped early, leaving the reader inside this value; the caller stops as well
+        if (violations.size() >= MAX_VIOLATIONS) {
+            return;
+        }
+        reader.endObject();
+        for (int i = 0; i < seen.length; i++) {
+            if (!seen[i]) {
+                violations.add(reader.getPreviousPath() + ": missing required property '" + schema.required[i] + "'");
+            }
+        }
+    }
+
+
+    private static void validateArray(JsonReader reader, SchemaNode schema, List<String> violations) throws IOException {
+        int count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (violations.size() >= MAX_VIOLATIONS) {
+                return;
+            }
+            if (schema.items != null) {
+                validate(reader, schema.items, violations);
+            } else {
+                reader.skipValue();
+            }
+            count++;
+        }
+        if (violations.size() >= MAX_VIOLATIONS) {
+            return;
+        }
+        reader.endArray();
+        if (count < schema.minItems) {
+            violations.add(reader.getPreviousPath() + ": " + count + " items, expected at least " + schema.minItems);
+        } else if (count > schema.maxItems) {
+            violations.add(reader.getPreviousPath() + ": " + count + " items, expected at most " + schema.maxItems);
+        }
+    }
+
+
+    private static void validateNumber(JsonReader reader, SchemaNode schema, List<String> violations) throws IOException {
+        String literal = reader.nextString();
+        if ((schema.types & SchemaNode.NUMBER) == 0 && !isInteger(literal)) {
+            violations.add(reader.getPreviousPath() + ": expected " + schema.typeNames + " but was " + literal);
+            return;
+        }
+        if (schema.hasNumberBounds()) {
+            double value = Double.parseDouble(literal);
+            if (value < schema.minimum) {
+                violations.add(reader.getPreviousPath() + ": " + literal + " is below the minimum " + schema.minimum);
+            } else if (value > schema.maximum) {
+                violations.add(reader.getPreviousPath() + ": " + literal + " is above the maximum " + schema.maximum);
+            }
+        }
+    }
+
+
+    // 1, -3 and 2.0 are integers; 2.5 and 1e-3 are not
+    private static boolean isInteger(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E') {
+                double value = Double.parseDouble(literal);
+                return value == Math.rint(value) && !Double.isInfinite(value);
+            }
+        }
+        return true;
+    }
+
+
+    private static int typeOf(JsonToken token) {
+        return switch (token) {
+            case BEGIN_OBJECT -> SchemaNode.OBJECT;
+            case BEGIN_ARRAY -> SchemaNode.ARRAY;
+            case STRING -> SchemaNode.STRING;
+            case NUMBER -> SchemaNode.NUMBER;
+            case BOOLEAN -> SchemaNode.BOOLEAN;
+            case NULL -> SchemaNode.NULL;
+            default -> 0;
+        };
+    }
+
+
+    private static String name(JsonToken token) {
+        return switch (token) {
+            case BEGIN_OBJECT -> "object";
+            case BEGIN_ARRAY -> "array";
+            default -> token.name().toLowerCase(Locale.ROOT);
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.fakestore.automation.contracts;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One compiled schema: the keywords of a JSON Schema object resolved into plain fields, so validation
+ * does no map lookups on keyword names and no re-parsing. Supports the subset the contracts use:
+ * {@code type} (a name or a list of names), {@code properties}, {@code required},
+ * {@code additionalProperties} (boolean), {@code items}, {@code minItems}, {@code maxItems},
+ * {@code enum} (strings), {@code minimum}, {@code maximum} and {@code minLength}.
+ */
+final class SchemaNode {
+    static final int OBJECT = 1;
+    static final int ARRAY = 1 << 1;
+    static final int STRING = 1 << 2;
+    static final int INTEGER = 1 << 3;
+    static final int NUMBER = 1 << 4;
+    static final int BOOLEAN = 1 << 5;
+    static final int NULL = 1 << 6;
+    static final int ANY = OBJECT | ARRAY | STRING | INTEGER | NUMBER | BOOLEAN | NULL;
+
+    private static final Set<String> KEYWORDS = Set.of("$schema", "$id", "title", "description", "type", "properties",
+            "required", "additionalProperties", "items", "minItems", "maxItems", "enum", "minimum", "maximum", "minLength");
+
+    final int types;
+    final String typeNames;
+    final Map<String, SchemaNode> properties;
+    // Position of each required property, for tracking which were seen in one object
+    final Map<String, Integer> requiredIndex;
+    final String[] required;
+    final boolean additionalProperties;
+    final SchemaNode items;
+    final int minItems;
+    final int maxItems;
+    final Set<String> enumValues;
+    final double minimum;
+    final double maximum;
+    final int minLength;
+
+    private SchemaNode(JsonObject schema, String location) {
+        for (String keyword : schema.keySet()) {
+            if (!KEYWORDS.contains(keyword)) {
+                throw new IllegalStateException("Unsupported schema keyword '" + keyword + "' at " + location);
+            }
+        }
+        this.typeNames = schema.has("type") ? schema.get("type").toString().replace("\"", "") : "any";
+        this.types = schema.has("type") ? types(schema.get("type"), location) : ANY;
+
+        Map<String, SchemaNode> compiledProperties = new HashMap<>();
+        if (schema.has("properties")) {
+            for (Map.Entry<String, JsonElement> property : schema.getAsJsonObject("properties").entrySet()) {
+                compiledProperties.put(property.getKey(),
+                        compile(property.getValue(), location + ".properties." + property.getKey()));
+            }
+        }
+        this.properties = Collections.unmodifiableMap(compiledProperties);
+
+        List<String> requiredNames = schema.has("required")
+                ? schema.getAsJsonArray("required").asList().stream().map(JsonElement::getAsString).toList()
+                : List.of();
+        Map<String, Integer> index = new HashMap<>();
+        for (String name : requiredNames) {
+            index.put(name, index.size());
+        }
+        this.required = requiredNames.toArray(new String[0]);
+        this.requiredIndex = Collections.unmodifiableMap(index);
+        this.additionalProperties = !schema.has("additionalProperties") || schema.get("additionalProperties").getAsBoolean();
+
+        this.items = schema.has("items") ? compile(schema.get("items"), location + ".items") : null;
+        this.minItems = schema.has("minItems") ? schema.get("minItems").getAsInt() : 0;
+        this.maxItems = schema.has("maxItems") ? schema.get("maxItems").getAsInt() : Integer.MAX_VALUE;
+
+        if (schema.has("enum")) {
+            Set<String> values = new HashSet<>();
+            for (JsonElement value : schema.getAsJsonArray("enum")) {
+                values.add(value.getAsString());
+            }
+            this.enumValues = Collections.unmodifiableSet(values);
+        } else {
+            this.enumValues = null;
+        }
+        this.minimum = schema.has("minimum") ? schema.get("minimum").getAsDouble() : Double.NEGATIVE_INFINITY;
+        this.maximum = schema.has("maximum") ? schema.get("maximum").getAsDouble() : Double.POSITIVE_INFINITY;
+        this.minLength = schema.has("minLength") ? schema.get("minLength").getAsInt() : 0;
+    }
+
+
+    static SchemaNode compile(JsonElement schema, String location) {
+        if (!schema.isJsonObject()) {
+            throw new IllegalStateException("Schema at " + location + " should be a JSON object");
+        }
+        return new SchemaNode(schema.getAsJsonObject(), location);
+    }
+
+
+    boolean hasNumberBounds() {
+        return minimum != Double.NEGATIVE_INFINITY || maximum != Double.POSITIVE_INFINITY;
+    }
+
+
+    private static int types(JsonElement type, String location) {
+        if (type.isJsonArray()) {
+            int mask = 0;
+            for (JsonElement name : (JsonArray) type) {
+                mask |= type(name.getAsString(), location);
+            }
+            return mask;
+        }
+        return type(type.getAsString(), location);
+    }
+
+
+    private static int type(String name, String location) {
+        return switch (name) {
+            case "object" -> OBJECT;
+            case "array" -> ARRAY;
+            case "string" -> STRING;
+            // JSON Schema integers are numbers too, so "number" accepts both
+            case "integer" -> INTEGER;
+            case "number" -> NUMBER | INTEGER;
+            case "boolean" -> BOOLEAN;
+            case "null" -> NULL;
+            default -> throw new IllegalStateException("Unknown schema type '" + name + "' at " + location);
+        };
+    }
+}
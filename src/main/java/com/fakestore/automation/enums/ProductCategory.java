@@ -0,0 +1,27 @@
+package com.fakestore.automation.enums;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public enum ProductCategory {
+    MENS_CLOTHING("men's clothing"),
+    JEWELERY("jewelery"),
+    ELECTRONICS("electronics"),
+    WOMENS_CLOTHING("women's clothing");
+
+    private final String label;
+
+    ProductCategory(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // The category strings exactly as the API returns them
+    public static Set<String> labels() {
+        return Arrays.stream(values()).map(ProductCategory::getLabel).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -6,7 +6,8 @@ public enum StatusCode {
     BAD_REQUEST(400),
     UNAUTHORIZED(401),
     NOT_FOUND(404),
-    INTERNAL_SERVER_ERROR(500);
+    INTERNAL_SERVER_ERROR(500),
+    SERVICE_UNAVAILABLE(503);
 
     private final int code;
 
@@ -0,0 +1,21 @@
+package com.fakestore.automation.load;
+
+import com.fakestore.automation.models.request.LoginRequest;
+import com.fakestore.automation.services.AuthService;
+import com.fakestore.automation.services.CartService;
+import com.fakestore.automation.services.ProductService;
+import com.fakestore.automation.utils.JsonReader;
+
+/**
+ * Service instances shared by every load request. The services are stateless after construction,
+ * so one set is used from all virtual threads.
+ */
+record LoadClients(ProductService products, CartService carts, AuthService auth, int maxProductId, LoginRequest credentials) {
+
+    static LoadClients create(int maxProductId, boolean needsCredentials) {
+        LoginRequest credentials = needsCredentials
+                ? JsonReader.readJson("auth/valid-credentials.json", LoginRequest.class)
+                : null;
+        return new LoadClients(new ProductService(), new CartService(), new AuthService(), maxProductId, credentials);
+    }
+}
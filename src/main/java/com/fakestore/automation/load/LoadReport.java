@@ -0,0 +1,197 @@
+package com.fakestore.automation.load;
+
+import com.fakestore.automation.metrics.RetrySummary;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of a load run: throughput, error rate and latency percentiles per scenario and in total.
+ * Latencies are measured from each request's scheduled start, so time spent waiting behind a slow
+ * server is included rather than hidden (no coordinated omission). A scenario's latency includes any retries
+ * it needed; how many were sent is reported alongside. So is how many requests were served by an identical one
+ * in flight with {@code coalesce.enabled}: those were not sent, so their latency is not the server's.
+ */
+public final class LoadReport {
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final double targetRatePerSecond;
+    private final double elapsedSeconds;
+    private final List<Row> scenarios = new ArrayList<>();
+    private final Row total;
+    private final RetrySummary retries;
+    private final long coalesced;
+
+    LoadReport(double targetRatePerSecond, long elapsedNanos, Collection<ScenarioStats> stats, RetrySummary retries,
+               long coalesced) {
+        this.targetRatePerSecond = targetRatePerSecond;
+        this.retries = retries;
+        this.coalesced = coalesced;
+        this.elapsedSeconds = elapsedNanos / 1e9;
+
+        Histogram totalLatencies = null;
+        long succeeded = 0;
+        long failed = 0;
+        long dropped = 0;
+        for (ScenarioStats scenarioStats : stats) {
+            Histogram latencies = scenarioStats.latencySnapshot();
+            scenarios.add(new Row(scenarioStats.getScenario().getScenarioName(), scenarioStats.getSucceeded(),
+                    scenarioStats.getFailed(), scenarioStats.getDropped(), latencies, elapsedSeconds));
+            if (totalLatencies == null) {
+                totalLatencies = latencies.copy();
+            } else {
+                totalLatencies.add(latencies);
+            }
+            succeeded += scenarioStats.getSucceeded();
+            failed += scenarioStats.getFailed();
+            dropped += scenarioStats.getDropped();
+        }
+        total = new Row("TOTAL", succeeded, failed, dropped, totalLatencies, elapsedSeconds);
+    }
+
+
+    public double getThroughputPerSecond() {
+        return total.throughputPerSecond;
+    }
+
+
+    public double getErrorRate() {
+        return total.errorRate;
+    }
+
+
+    public long getCompleted() {
+        return total.succeeded + total.failed;
+    }
+
+
+    public long getFailed() {
+        return total.failed;
+    }
+
+
+    public long getDropped() {
+        return total.dropped;
+    }
+
+
+    public RetrySummary getRetries() {
+        return retries;
+    }
+
+
+    /**
+     * Requests served by an identical one in flight rather than sent, see {@code coalesce.enabled}.
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+
+    public double getLatencyPercentileMillis(double percentile) {
+        return total.latencyMillis.getOrDefault(percentileKey(percentile), 0.0);
+    }
+
+
+    /**
+     * Fixed-width table for the console.
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("Target rate: %.1f req/s, elapsed: %.1f s%n", targetRatePerSecond, elapsedSeconds));
+        table.append(String.format("%-26s %9s %8s %8s %9s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "completed", "errors", "dropped", "req/s", "err %",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Row row : scenarios) {
+            appendRow(table, row);
+        }
+        appendRow(table, total);
+        table.append(String.format("Retries: %d sent, %d recovered, %d exhausted, %d denied by budget, %.1f ms backoff%n",
+                retries.retries(), retries.recovered(), retries.exhausted(), retries.budgetDenied(), retries.backoffMillis()));
+        if (coalesced > 0) {
+            table.append(String.format("Coalesced: %d requests served by one in flight, not sent%n", coalesced));
+        }
+        return table.toString();
+    }
+
+
+    public void writeJson(Path file) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("targetRatePerSecond", targetRatePerSecond);
+        json.put("elapsedSeconds", elapsedSeconds);
+        json.put("total", total);
+        json.put("scenarios", scenarios);
+        json.put("retries", retries);
+        json.put("coalesced", coalesced);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, gson.toJson(json), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write load report: " + file, e);
+        }
+    }
+
+
+    private static void appendRow(StringBuilder table, Row row) {
+        table.append(String.format("%-26s %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                row.scenario, row.succeeded + row.failed, row.failed, row.dropped, row.throughputPerSecond,
+                row.errorRate * 100, row.latencyMillis.get("p50"), row.latencyMillis.get("p90"),
+                row.latencyMillis.get("p99"), row.latencyMillis.get("p99.9"), row.latencyMillis.get("max")));
+    }
+
+
+    private static String percentileKey(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (int) percentile : "p" + percentile;
+    }
+
+
+    // Serialized field by field by Gson for the JSON report
+    private static final class Row {
+        private final String scenario;
+        private final long succeeded;
+        private final long failed;
+        private final long dropped;
+        private final double throughputPerSecond;
+        private final double errorRate;
+        private final Map<String, Double> latencyMillis = new LinkedHashMap<>();
+
+        private Row(String scenario, long succeeded, long failed, long dropped, Histogram latencies, double elapsedSeconds) {
+            this.scenario = scenario;
+            this.succeeded = succeeded;
+            this.failed = failed;
+            this.dropped = dropped;
+            long completed = succeeded + failed;
+            this.throughputPerSecond = elapsedSeconds > 0 ? completed / elapsedSeconds : 0;
+            // Requests shed because too many were in flight count as errors too
+            long attempted = completed + dropped;
+            this.errorRate = attempted > 0 ? (double) (failed + dropped) / attempted : 0;
+
+            boolean empty = latencies == null || latencies.getTotalCount() == 0;
+            for (double percentile : PERCENTILES) {
+                latencyMillis.put(percentileKey(percentile), empty ? 0.0 : toMillis(latencies.getValueAtPercentile(percentile)));
+            }
+            latencyMillis.put("mean", empty ? 0.0 : latencies.getMean() / 1000.0);
+            latencyMillis.put("max", empty ? 0.0 : toMillis(latencies.getMaxValue()));
+        }
+
+
+        private static double toMillis(long micros) {
+            return micros / (double) TimeUnit.MILLISECONDS.toMicros(1);
+        }
+    }
+}
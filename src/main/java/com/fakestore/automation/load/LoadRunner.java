@@ -0,0 +1,244 @@
+package com.fakestore.automation.load;
+
+import com.fakestore.automation.cache.SingleFlight;
+import com.fakestore.automation.config.FrameworkConfig;
+import com.fakestore.automation.contracts.ContractValidator;
+import com.fakestore.automation.metrics.RetryStats;
+import com.fakestore.automation.standin.FakeStoreStandInServer;
+import com.fakestore.automation.utils.ConnectionPoolManager;
+import com.fakestore.automation.utils.RequestBuilder;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives sustained load through {@link com.fakestore.automation.services.ProductService},
+ * {@link com.fakestore.automation.services.CartService} and {@link com.fakestore.automation.services.AuthService}.
+ * <p>
+ * The runner is open-loop: requests are started at a constant arrival rate regardless of how fast
+ * earlier ones complete, each on its own virtual thread. Latency is measured from the scheduled start
+ * time, so a slow server shows up in the percentiles instead of silently lowering the request rate.
+ * When {@code load.maxInFlight} requests are outstanding, new arrivals are dropped and reported as errors.
+ * With {@code load.validateContracts=true} every successful body is also checked against the scenario's
+ * {@link com.fakestore.automation.contracts.Contract} while it is read, and a violation counts as an error.
+ * <p>
+ * Settings are the {@code load.*} keys of {@link FrameworkConfig}; arguments of the form
+ * {@code --key=value} override them for one run:
+ * <pre>
+ * java -jar target/fakestoreapi-automation-1.0-SNAPSHOT.jar --env=local \
+ *     --load.mix=getProductById=70,getAllProductsWithLimit=20,createCart=10 \
+ *     --load.ratePerSecond=500 --load.durationSeconds=60 --load.reportFile=reports/load-report.json
+ * </pre>
+ */
+public class LoadRunner {
+    private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ScenarioMix mix;
+    private final double ratePerSecond;
+    private final long durationNanos;
+    private final int maxInFlight;
+    private final int maxProductId;
+    private final long drainTimeoutMillis;
+    private final boolean validateContracts;
+
+    public LoadRunner(FrameworkConfig config) {
+        this.mix = ScenarioMix.parse(config.getString("load.mix"));
+        this.ratePerSecond = config.getDouble("load.ratePerSecond");
+        this.durationNanos = TimeUnit.SECONDS.toNanos(config.getLong("load.durationSeconds"));
+        this.maxInFlight = config.getInt("load.maxInFlight");
+        this.maxProductId = config.getInt("load.maxProductId");
+        this.drainTimeoutMillis = config.getReadTimeoutMillis() + TimeUnit.SECONDS.toMillis(5);
+        this.validateContracts = config.getBoolean("load.validateContracts");
+        if (ratePerSecond <= 0 || durationNanos <= 0 || maxInFlight <= 0 || maxProductId <= 0) {
+            throw new IllegalArgumentException("load.ratePerSecond, load.durationSeconds, load.maxInFlight and "
+                    + "load.maxProductId must all be positive");
+        }
+    }
+
+
+    public static void main(String[] args) {
+        applyOverrides(args);
+        FrameworkConfig config = FrameworkConfig.get();
+
+        FakeStoreStandInServer standInServer = null;
+        if (config.isStandInEnabled()) {
+            standInServer = FakeStoreStandInServer.start(config.getStandInPort(), config.getStandInProducts());
+            config = config.withBaseUri(standInServer.getBaseUri());
+        }
+        RequestBuilder.configure(config);
+
+        // Per-request INFO lines from the services would dominate a load run
+        Configurator.setLevel("com.fakestore.automation.services", Level.WARN);
+
+        try {
+            LoadReport report = new LoadRunner(config).run();
+            System.out.println(report.toTable());
+
+            String reportFile = config.getString("load.reportFile");
+            if (!reportFile.isEmpty()) {
+                report.writeJson(Path.of(reportFile));
+                logger.info("Load report written to: {}", reportFile);
+            }
+        } finally {
+            ConnectionPoolManager.getInstance().logStats();
+            if (standInServer != null) {
+                standInServer.stop();
+            }
+        }
+    }
+
+
+    public LoadReport run() {
+        LoadClients clients = LoadClients.create(maxProductId, mix.contains(LoadScenario.LOGIN));
+        Map<LoadScenario, ScenarioStats> stats = new EnumMap<>(LoadScenario.class);
+        for (LoadScenario scenario : mix.getScenarios()) {
+            stats.put(scenario, new ScenarioStats(scenario));
+        }
+
+        logger.info("Starting load run against {} - rate: {} req/s, duration: {}s, maxInFlight: {}, mix: {}",
+                RequestBuilder.getBaseUri(), ratePerSecond, TimeUnit.NANOSECONDS.toSeconds(durationNanos), maxInFlight, mix);
+
+        warmUp(clients);
+        // Retries and coalesced requests of the warm-up are not part of the run
+        RetryStats.getInstance().reset();
+        SingleFlight singleFlight = RequestBuilder.policies().singleFlight();
+        long coalescedBefore = singleFlight.getCoalesced();
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("load-", 0).factory());
+        try {
+            for (long i = 0; ; i++) {
+                // Fixed schedule: arrival i is due at start + i * interval, independent of completions
+                long intendedStart = start + (long) (i * intervalNanos);
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                ScenarioStats scenarioStats = stats.get(mix.pick(ThreadLocalRandom.current()));
+                if (!inFlight.tryAcquire()) {
+                    scenarioStats.recordDropped();
+                } else {
+                    executor.execute(() -> {
+                        try {
+                            execute(clients, scenarioStats, intendedStart, validateContracts);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+
+                if (intendedStart >= nextProgress) {
+                    logger.info("Load run progress: {} requests scheduled, {} in flight", i + 1, maxInFlight - inFlight.availablePermits());
+                    nextProgress += PROGRESS_INTERVAL_NANOS;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try {
+            if (!executor.awaitTermination(drainTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.warn("{} requests still in flight after {} ms, reporting without them",
+                        maxInFlight - inFlight.availablePermits(), drainTimeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight load requests", e);
+        }
+
+        LoadReport report = new LoadReport(ratePerSecond, System.nanoTime() - start, stats.values(),
+                RetryStats.getInstance().snapshot(), singleFlight.getCoalesced() - coalescedBefore);
+        RequestBuilder.policies().logSummary();
+        logger.info("Load run finished - completed: {}, throughput: {} req/s, error rate: {}%, p99: {} ms",
+                report.getCompleted(), String.format("%.1f", report.getThroughputPerSecond()),
+                String.format("%.2f", report.getErrorRate() * 100), report.getLatencyPercentileMillis(99.0));
+        return report;
+    }
+
+
+    // One untimed call per scenario, so class loading and connection setup do not land in the first second of the schedule
+    private void warmUp(LoadClients clients) {
+        for (LoadScenario scenario : mix.getScenarios()) {
+            try {
+                scenario.execute(clients, ThreadLocalRandom.current()).asByteArray();
+            } catch (RuntimeException e) {
+                logger.warn("Warm-up request for {} failed: {}", scenario.getScenarioName(), e.toString());
+            }
+        }
+    }
+
+
+    private static void execute(LoadClients clients, ScenarioStats stats, long intendedStart, boolean validateContracts) {
+        try {
+            Response response = stats.getScenario().execute(clients, ThreadLocalRandom.current());
+            List<String> violations = List.of();
+            // RestAssured reads the body lazily; reading it completes the exchange and returns the connection to the pool
+            if (validateContracts && response.getStatusCode() < 400) {
+                try (InputStream body = response.asInputStream()) {
+                    violations = ContractValidator.validate(body, stats.getScenario().getContract());
+                }
+            } else {
+                response.asByteArray();
+            }
+            long latency = System.nanoTime() - intendedStart;
+            if (!violations.isEmpty()) {
+                stats.recordFailure(latency);
+                if (stats.claimFailureReport()) {
+                    logger.warn("{} response violates the {} contract, further failures are only counted: {}",
+                            stats.getScenario().getScenarioName(), stats.getScenario().getContract(), violations);
+                }
+            } else if (response.getStatusCode() < 400) {
+                stats.recordSuccess(latency);
+            } else {
+                stats.recordFailure(latency);
+                if (stats.claimFailureReport()) {
+                    logger.warn("{} returned status code {}, further failures are only counted",
+                            stats.getScenario().getScenarioName(), response.getStatusCode());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            stats.recordFailure(System.nanoTime() - intendedStart);
+            if (stats.claimFailureReport()) {
+                logger.warn("{} failed, further failures are only counted", stats.getScenario().getScenarioName(), e);
+            }
+        }
+    }
+
+
+    // --key=value arguments become system properties, which take precedence over every profile
+    private static void applyOverrides(String[] args) {
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid argument '" + arg + "', expected --key=value");
+            }
+            System.setProperty(option.substring(0, separator), option.substring(separator + 1));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fakestore.automation.load;
+
+import com.fakestore.automation.contracts.Contract;
+import com.fakestore.automation.models.request.CartRequest;
+import com.fakestore.automation.models.request.ProductRequest;
+import io.restassured.response.Response;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Single-request operations the load runner can mix, each mapped onto one service call.
+ * Names match the service method they drive, so a mix reads like {@code getProductById=70,createCart=10}.
+ */
+public enum LoadScenario {
+    GET_ALL_PRODUCTS("getAllProducts", Contract.PRODUCT_LIST, (clients, random) -> clients.products().getAllProducts()),
+    GET_ALL_PRODUCTS_WITH_LIMIT("getAllProductsWithLimit", Contract.PRODUCT_LIST, (clients, random) ->
+            clients.products().getAllProductsWithLimit(1 + random.nextInt(clients.maxProductId()))),
+    GET_PRODUCT_BY_ID("getProductById", Contract.PRODUCT, (clients, random) ->
+            clients.products().getProductById(1 + random.nextInt(clients.maxProductId()))),
+    CREATE_PRODUCT("createProduct", Contract.PRODUCT, (clients, random) ->
+            clients.products().createProduct(new ProductRequest("Load Test Product", 9.99,
+                    "Created by the load runner", "https://i.pravatar.cc", "electronics"))),
+    GET_ALL_CARTS("getAllCarts", Contract.CART_LIST, (clients, random) -> clients.carts().getAllCarts()),
+    GET_CART_BY_ID("getCartById", Contract.CART, (clients, random) -> clients.carts().getCartById(1 + random.nextInt(7))),
+    GET_CARTS_BY_USER_ID("getCartsByUserId", Contract.CART_LIST, (clients, random) -> clients.carts().getCartsByUserId(1 + random.nextInt(4))),
+    CREATE_CART("createCart", Contract.CART, (clients, random) ->
+            clients.carts().createCart(new CartRequest(1 + random.nextInt(10), LocalDate.now().toString(),
+                    List.of(new CartRequest.Product(1 + random.nextInt(clients.maxProductId()), 1 + random.nextInt(3)))))),
+    LOGIN("login", Contract.AUTH, (clients, random) -> clients.auth().login(clients.credentials()));
+
+    @FunctionalInterface
+    interface Action {
+        Response execute(LoadClients clients, Random random);
+    }
+
+    private final String scenarioName;
+    private final Contract contract;
+    private final Action action;
+
+    LoadScenario(String scenarioName, Contract contract, Action action) {
+        this.scenarioName = scenarioName;
+        this.contract = contract;
+        this.action = action;
+    }
+
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+
+    /**
+     * The contract a successful response of this scenario must match.
+     */
+    public Contract getContract() {
+        return contract;
+    }
+
+
+    Response execute(LoadClients clients, Random random) {
+        return action.execute(clients, random);
+    }
+
+
+    public static LoadScenario fromName(String name) {
+        for (LoadScenario scenario : values()) {
+            if (scenario.scenarioName.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load scenario '" + name + "', expected one of: "
+                + Arrays.stream(values()).map(LoadScenario::getScenarioName).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,96 @@
+package com.fakestore.automation.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted selection of {@link LoadScenario}s, parsed from {@code name=weight} pairs such as
+ * {@code getProductById=70,getAllProductsWithLimit=20,createCart=10}. Weights are relative and need not add up to 100.
+ */
+public final class ScenarioMix {
+    private final LoadScenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final Map<LoadScenario, Integer> weights;
+
+    private ScenarioMix(Map<LoadScenario, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(weights);
+        this.scenarios = weights.keySet().toArray(new LoadScenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int running = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            running += weights.get(scenarios[i]);
+            cumulativeWeights[i] = running;
+        }
+        this.totalWeight = running;
+    }
+
+
+    public static ScenarioMix parse(String spec) {
+        Map<LoadScenario, Integer> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid scenario mix entry '" + entry + "', expected name=weight");
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in scenario mix entry '" + entry + "'", e);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Scenario weight must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(LoadScenario.fromName(parts[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Scenario mix selects no scenarios: " + spec);
+        }
+        return new ScenarioMix(weights);
+    }
+
+
+    public LoadScenario pick(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+
+    public List<LoadScenario> getScenarios() {
+        return new ArrayList<>(weights.keySet());
+    }
+
+
+    public boolean contains(LoadScenario scenario) {
+        return weights.containsKey(scenario);
+    }
+
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((scenario, weight) -> {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(scenario.getScenarioName()).append(' ')
+                    .append(String.format("%.1f%%", 100.0 * weight / totalWeight));
+        });
+        return text.toString();
+    }
+}
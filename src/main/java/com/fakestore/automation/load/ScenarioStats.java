@@ -0,0 +1,88 @@
+package com.fakestore.automation.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome counters and latency histogram for one scenario. Recording is wait-free, so every
+ * virtual thread records directly without contending on a lock.
+ */
+final class ScenarioStats {
+    // Latencies are tracked in microseconds, up to one hour, with 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final LoadScenario scenario;
+    private final Recorder latencies = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram accumulated = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicBoolean failureReported = new AtomicBoolean();
+
+    ScenarioStats(LoadScenario scenario) {
+        this.scenario = scenario;
+    }
+
+
+    void recordSuccess(long latencyNanos) {
+        succeeded.increment();
+        recordLatency(latencyNanos);
+    }
+
+
+    void recordFailure(long latencyNanos) {
+        failed.increment();
+        recordLatency(latencyNanos);
+    }
+
+
+    /**
+     * True exactly once, for the first failure worth logging in full; later failures are only counted.
+     */
+    boolean claimFailureReport() {
+        return !failureReported.get() && failureReported.compareAndSet(false, true);
+    }
+
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+
+    private void recordLatency(long latencyNanos) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+
+    LoadScenario getScenario() {
+        return scenario;
+    }
+
+
+    long getSucceeded() {
+        return succeeded.sum();
+    }
+
+
+    long getFailed() {
+        return failed.sum();
+    }
+
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+
+    /**
+     * All latencies recorded so far; safe to call while requests are still being recorded.
+     */
+    synchronized Histogram latencySnapshot() {
+        accumulated.add(latencies.getIntervalHistogram());
+        return accumulated.copy();
+    }
+}
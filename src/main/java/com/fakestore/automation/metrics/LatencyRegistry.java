@@ -0,0 +1,152 @@
+package com.fakestore.automation.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide latency histograms, one per HTTP method and endpoint template ({@code GET /products/{id}}).
+ * <p>
+ * Recording is wait-free: after the first call for a route, {@link #record} is a map lookup plus an
+ * HdrHistogram {@link Recorder} update, so it can sit on every request path without adding contention.
+ * Readers take snapshots without stopping writers.
+ * <p>
+ * A latency runs from sending the request to having read the whole response body, so large listings are
+ * measured with their transfer. Streamed responses ({@code BaseService#stream}) are the exception: their body is
+ * read by the caller afterwards, so their latency is the time to the response headers.
+ */
+public final class LatencyRegistry {
+    private static final Logger logger = LogManager.getLogger(LatencyRegistry.class);
+    private static final LatencyRegistry INSTANCE = new LatencyRegistry();
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    // Microsecond resolution, up to one hour, 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, RouteLatency> routes = new ConcurrentHashMap<>();
+
+    private LatencyRegistry() {
+    }
+
+
+    public static LatencyRegistry getInstance() {
+        return INSTANCE;
+    }
+
+
+    /**
+     * @param statusCode response status, or {@code 0} when the call failed without a response
+     */
+    public void record(String method, String endpoint, long elapsedNanos, int statusCode) {
+        String route = method + " " + endpoint;
+        RouteLatency latency = routes.get(route);
+        if (latency == null) {
+            latency = routes.computeIfAbsent(route, key -> new RouteLatency(method, endpoint));
+        }
+        latency.record(elapsedNanos, statusCode);
+    }
+
+
+    /**
+     * Summaries of everything recorded so far, sorted by route.
+     */
+    public List<LatencySummary> snapshot() {
+        List<LatencySummary> summaries = new ArrayList<>();
+        for (RouteLatency latency : routes.values()) {
+            summaries.add(latency.summarize());
+        }
+        summaries.sort(Comparator.comparing(LatencySummary::endpoint).thenComparing(LatencySummary::method));
+        return summaries;
+    }
+
+
+    public void writeJson(Path file) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("unit", "ms");
+        json.put("routes", snapshot());
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, gson.toJson(json), StandardCharsets.UTF_8);
+            logger.info("Latency histograms written to: {}", file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write latency histograms: " + file, e);
+        }
+    }
+
+
+    public void logSummary() {
+        for (LatencySummary summary : snapshot()) {
+            logger.info("Latency {} - count: {}, errors: {}, p50: {} ms, p90: {} ms, p99: {} ms, p99.9: {} ms, max: {} ms",
+                    summary.route(), summary.count(), summary.errors(), summary.p50(), summary.p90(),
+                    summary.p99(), summary.p999(), summary.max());
+        }
+    }
+
+
+    /**
+     * Drops every recorded route, e.g. between independent runs in one JVM.
+     */
+    public void reset() {
+        routes.clear();
+    }
+
+
+    private static final class RouteLatency {
+        private final String method;
+        private final String endpoint;
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram accumulated = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+
+        private RouteLatency(String method, String endpoint) {
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+
+        private void record(long elapsedNanos, int statusCode) {
+            recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+            if (statusCode == 0 || statusCode >= 400) {
+                errors.increment();
+            }
+        }
+
+
+        // Folds the values recorded since the last call into the running histogram
+        private synchronized LatencySummary summarize() {
+            accumulated.add(recorder.getIntervalHistogram());
+            return new LatencySummary(method, endpoint, accumulated.getTotalCount(), errors.sum(),
+                    toMillis(accumulated.getValueAtPercentile(50.0)),
+                    toMillis(accumulated.getValueAtPercentile(90.0)),
+                    toMillis(accumulated.getValueAtPercentile(99.0)),
+                    toMillis(accumulated.getValueAtPercentile(99.9)),
+                    toMillis(accumulated.getMaxValue()),
+                    accumulated.getTotalCount() == 0 ? 0 : accumulated.getMean() / 1000.0);
+        }
+
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.fakestore.automation.metrics;
+
+/**
+ * Point-in-time latency percentiles for one route, in milliseconds.
+ * Errors are responses with a 4xx/5xx status and calls that failed without a response.
+ */
+public record LatencySummary(String method, String endpoint, long count, long errors,
+                             double p50, double p90, double p99, double p999, double max, double mean) {
+
+    public String route() {
+        return method + " " + endpoint;
+    }
+}
@@ -0,0 +1,228 @@
+package com.fakestore.automation.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+
+/**
+ * One request as a structured log event, written by the {@code requests} logger as a single JSON line:
+ * <pre>
+ * {"ts":1760731200123,"method":"GET","route":"/products/{id}","path":"/products/3","status":200,"latencyMs":4.217,"bytes":412}
+ * </pre>
+ * {@code route} is the endpoint template, so events group like the latency histograms; {@code bytes} is the
+ * Content-Length of the response, or null when the server did not send one; {@code status} is 0 and
+ * {@code error} names the exception when no response arrived.
+ * <p>
+ * Garbage-free: each thread reuses one event, which Log4j2 formats straight into the layout's buffer (or into
+ * its ring-buffer slot with async loggers) before the call returns, and only when the {@code requests} logger is
+ * enabled; set its level to {@code off} to turn the events off.
+ */
+public final class RequestEvent implements ReusableMessage {
+    private static final Logger events = LogManager.getLogger("requests");
+    private static final ThreadLocal<RequestEvent> reusable = ThreadLocal.withInitial(RequestEvent::new);
+
+    private long timestampMillis;
+    private String method;
+    private String route;
+    private String pathParamName;
+    private Object pathParamValue;
+    private int statusCode;
+    private long latencyNanos;
+    private long bytes;
+    private String error;
+
+    private RequestEvent() {
+    }
+
+
+    private RequestEvent set(String method, String route, String pathParamName, Object pathParamValue,
+                             int statusCode, long latencyNanos, long bytes, String error) {
+        this.timestampMillis = System.currentTimeMillis();
+        this.method = method;
+        this.route = route;
+        this.pathParamName = pathParamName;
+        this.pathParamValue = pathParamValue;
+        this.statusCode = statusCode;
+        this.latencyNanos = latencyNanos;
+        this.bytes = bytes;
+        this.error = error;
+        return this;
+    }
+
+
+    /**
+     * Logs a completed request; {@code bytes} is -1 when the size is unknown.
+     */
+    public static void log(String method, String route, String pathParamName, Object pathParamValue,
+                           int statusCode, long latencyNanos, long bytes) {
+        if (events.isInfoEnabled()) {
+            events.info(reusable.get().set(method, route, pathParamName, pathParamValue, statusCode, latencyNanos,
+                    bytes, null));
+        }
+    }
+
+
+    /**
+     * Logs a request that failed without a response, e.g. on a connect or read timeout.
+     */
+    public static void logFailure(String method, String route, String pathParamName, Object pathParamValue,
+                                  long latencyNanos, Throwable failure) {
+        if (events.isInfoEnabled()) {
+            events.info(reusable.get().set(method, route, pathParamName, pathParamValue, 0, latencyNanos, -1,
+                    failure.getClass().getName()));
+        }
+    }
+
+
+    public static boolean isEnabled() {
+        return events.isInfoEnabled();
+    }
+
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        buffer.append("{\"ts\":").append(timestampMillis);
+        buffer.append(",\"method\":");
+        appendString(buffer, method);
+        buffer.append(",\"route\":");
+        appendString(buffer, route);
+        buffer.append(",\"path\":\"");
+        appendPath(buffer);
+        buffer.append("\",\"status\":").append(statusCode);
+        // Microsecond resolution, written as milliseconds with three decimals
+        long micros = latencyNanos / 1_000;
+        buffer.append(",\"latencyMs\":").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            buffer.append('0');
+        }
+        if (fraction < 10) {
+            buffer.append('0');
+        }
+        buffer.append(fraction);
+        buffer.append(",\"bytes\":");
+        if (bytes >= 0) {
+            buffer.append(bytes);
+        } else {
+            buffer.append("null");
+        }
+        if (error != null) {
+            buffer.append(",\"error\":");
+            appendString(buffer, error);
+        }
+        buffer.append('}');
+    }
+
+
+    @Override
+    public String getFormattedMessage() {
+        StringBuilder buffer = new StringBuilder(160);
+        formatTo(buffer);
+        return buffer.toString();
+    }
+
+
+    @Override
+    public String getFormat() {
+        return "";
+    }
+
+
+    @Override
+    public Object[] getParameters() {
+        return null;
+    }
+
+
+    @Override
+    public Throwable getThrowable() {
+        return null;
+    }
+
+
+    @Override
+    public Object[] swapParameters(Object[] emptyReplacement) {
+        return emptyReplacement;
+    }
+
+
+    @Override
+    public short getParameterCount() {
+        return 0;
+    }
+
+
+    // A copy for loggers that keep the message beyond the call
+    @Override
+    public Message memento() {
+        RequestEvent copy = new RequestEvent().set(method, route, pathParamName, pathParamValue, statusCode,
+                latencyNanos, bytes, error);
+        copy.timestampMillis = timestampMillis;
+        return copy;
+    }
+
+
+    // The route with its path parameter filled in, escaped for use inside a JSON string
+    private void appendPath(StringBuilder buffer) {
+        int placeholder = placeholder();
+        if (placeholder < 0) {
+            appendEscaped(buffer, route, 0, route.length());
+            return;
+        }
+        appendEscaped(buffer, route, 0, placeholder);
+        if (pathParamValue instanceof Integer || pathParamValue instanceof Long) {
+            buffer.append(((Number) pathParamValue).longValue());
+        } else if (pathParamValue instanceof CharSequence value) {
+            appendEscaped(buffer, value, 0, value.length());
+        } else {
+            String value = String.valueOf(pathParamValue);
+            appendEscaped(buffer, value, 0, value.length());
+        }
+        appendEscaped(buffer, route, placeholder + pathParamName.length() + 2, route.length());
+    }
+
+
+    // Index of "{name}" in the route, or -1; found without building the placeholder string
+    private int placeholder() {
+        if (pathParamName == null) {
+            return -1;
+        }
+        int length = pathParamName.length();
+        for (int i = route.indexOf('{'); i >= 0; i = route.indexOf('{', i + 1)) {
+            int close = i + length + 1;
+            if (close < route.length() && route.charAt(close) == '}' && route.startsWith(pathParamName, i + 1)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    private static void appendString(StringBuilder buffer, String value) {
+        buffer.append('"');
+        appendEscaped(buffer, value, 0, value.length());
+        buffer.append('"');
+    }
+
+
+    private static void appendEscaped(StringBuilder buffer, CharSequence value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
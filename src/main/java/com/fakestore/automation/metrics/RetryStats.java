@@ -0,0 +1,81 @@
+package com.fakestore.automation.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide retry counters, kept next to the latency histograms so results show how much of the traffic
+ * was retries. Every attempt is also recorded as its own request in {@link LatencyRegistry}.
+ */
+public final class RetryStats {
+    private static final RetryStats INSTANCE = new RetryStats();
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder backoffNanos = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetDenied = new LongAdder();
+
+    /**
+     * Counters of their own, for a {@code RetryPolicy} whose retries must not mix with the rest of the process,
+     * e.g. in a test; everything else records into {@link #getInstance()}.
+     */
+    public RetryStats() {
+    }
+
+
+    public static RetryStats getInstance() {
+        return INSTANCE;
+    }
+
+
+    /**
+     * A retry about to be sent after waiting {@code delayNanos}.
+     */
+    public void recordRetry(long delayNanos) {
+        retries.increment();
+        backoffNanos.add(delayNanos);
+    }
+
+
+    /**
+     * A request that failed at first and got a 2xx response on a retry.
+     */
+    public void recordRecovered() {
+        recovered.increment();
+    }
+
+
+    /**
+     * A request still failing after its last allowed attempt.
+     */
+    public void recordExhausted() {
+        exhausted.increment();
+    }
+
+
+    /**
+     * A retry not sent because the retry budget was spent.
+     */
+    public void recordBudgetDenied() {
+        budgetDenied.increment();
+    }
+
+
+    public RetrySummary snapshot() {
+        return new RetrySummary(retries.sum(), recovered.sum(), exhausted.sum(), budgetDenied.sum(),
+                TimeUnit.NANOSECONDS.toMicros(backoffNanos.sum()) / 1000.0);
+    }
+
+
+    /**
+     * Clears every counter, e.g. between independent runs in one JVM.
+     */
+    public void reset() {
+        retries.reset();
+        backoffNanos.reset();
+        recovered.reset();
+        exhausted.reset();
+        budgetDenied.reset();
+    }
+}
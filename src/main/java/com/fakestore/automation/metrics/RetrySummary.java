@@ -0,0 +1,8 @@
+package com.fakestore.automation.metrics;
+
+/**
+ * Point-in-time retry counters; {@code retries} counts attempts after the first, {@code backoffMillis} is
+ * the total time spent waiting before them.
+ */
+public record RetrySummary(long retries, long recovered, long exhausted, long budgetDenied, double backoffMillis) {
+}
@@ -0,0 +1,103 @@
+package com.fakestore.automation.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request count and latency of the test running on the current thread, for the per-test results records.
+ * Recording is only active between {@link #begin()} and {@link #end()}, which the results listener calls
+ * around each test; services record into {@link #current()}. Async services take the current stats when the
+ * request is sent, so responses completing on other threads still count toward the test that sent them.
+ */
+public final class TestRequestStats {
+    private static final ThreadLocal<TestRequestStats> current = new ThreadLocal<>();
+
+    private int requests;
+    private int errors;
+    private int coalesced;
+    private long totalNanos;
+    private long maxNanos;
+
+    private TestRequestStats() {
+    }
+
+
+    public static void begin() {
+        current.set(new TestRequestStats());
+    }
+
+
+    /**
+     * The stats of the test running on this thread, or {@code null} outside a test.
+     */
+    public static TestRequestStats current() {
+        return current.get();
+    }
+
+
+    /**
+     * Stops recording on this thread and returns what was recorded, or {@code null} if nothing was begun.
+     */
+    public static TestRequestStats end() {
+        TestRequestStats stats = current.get();
+        current.remove();
+        return stats;
+    }
+
+
+    /**
+     * @param statusCode response status, or {@code 0} when the call failed without a response
+     */
+    public synchronized void record(long elapsedNanos, int statusCode) {
+        requests++;
+        if (statusCode == 0 || statusCode >= 500) {
+            errors++;
+        }
+        totalNanos += elapsedNanos;
+        maxNanos = Math.max(maxNanos, elapsedNanos);
+    }
+
+
+    /**
+     * A request answered by an identical one already in flight, which the test did not send.
+     */
+    public synchronized void recordCoalesced() {
+        coalesced++;
+    }
+
+
+    public synchronized int getRequests() {
+        return requests;
+    }
+
+
+    /**
+     * Server errors (5xx) and calls that failed without a response. Client errors are left out: negative tests
+     * expect them, so counting them would flag every such test as failing requests.
+     */
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+
+    /**
+     * Requests answered by an identical one in flight rather than sent; not part of {@link #getRequests()}.
+     */
+    public synchronized int getCoalesced() {
+        return coalesced;
+    }
+
+
+    public synchronized double getMeanMillis() {
+        return requests == 0 ? 0 : toMillis(totalNanos) / requests;
+    }
+
+
+    public synchronized double getMaxMillis() {
+        return toMillis(maxNanos);
+    }
+
+
+    private static double toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0;
+    }
+}
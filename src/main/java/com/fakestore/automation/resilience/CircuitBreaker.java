@@ -0,0 +1,181 @@
+package com.fakestore.automation.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of one route on one host, created by {@link CircuitBreakerPolicy}.
+ * <p>
+ * While closed it keeps the outcomes of the last {@code circuit.windowSize} calls. Once at least
+ * {@code circuit.minimumCalls} are known and the share of failed calls (an I/O failure or a 5xx response) reaches
+ * {@code circuit.failureRatePercent}, or the share of calls slower than {@code circuit.slowCallMs} reaches
+ * {@code circuit.slowCallRatePercent}, it opens: calls fail at once with a {@link CircuitOpenException} instead of
+ * waiting for a server that is known to be down. After {@code circuit.openMs} it lets
+ * {@code circuit.halfOpenCalls} probe calls through, and closes again if they stay under both thresholds.
+ * <p>
+ * Every permission carries the epoch of the state it was granted in, which each state change advances. A call must
+ * end its permission exactly once - with {@link #onResponse}, {@link #onFailure} or, when it was not sent after all,
+ * {@link #releasePermission} - and outcomes of permissions from an earlier epoch are ignored, so a slow call sent
+ * while closed cannot count as a probe, or give back a probe permission.
+ */
+public final class CircuitBreaker {
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+
+    private final String name;
+    private final CircuitBreakerPolicy policy;
+
+    // Ring buffer of the latest outcomes while closed, or of the probe outcomes while half-open
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long epoch;
+    private long openedAt;
+    private int probesAllowed;
+    private String lastFailure;
+    private String openReason;
+
+    CircuitBreaker(String name, CircuitBreakerPolicy policy) {
+        this.name = name;
+        this.policy = policy;
+        this.failed = new boolean[policy.getWindowSize()];
+        this.slow = new boolean[policy.getWindowSize()];
+    }
+
+
+    public String getName() {
+        return name;
+    }
+
+
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+
+    /**
+     * Lets a call through, or fails it at once while the circuit is open.
+     *
+     * @return the permission, to pass to the method that ends it
+     * @throws CircuitOpenException if the circuit is open, or half-open with all probe calls taken
+     */
+    public synchronized long acquirePermission() {
+        if (state == CircuitState.OPEN) {
+            long remaining = openedAt + policy.getOpenNanos() - System.nanoTime();
+            if (remaining > 0) {
+                throw rejected(openReason + ", probing again in "
+                        + TimeUnit.NANOSECONDS.toMillis(remaining) + " ms");
+            }
+            transition(CircuitState.HALF_OPEN);
+            probesAllowed = policy.getHalfOpenCalls();
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (probesAllowed == 0) {
+                throw rejected("waiting for the outcome of " + policy.getHalfOpenCalls() + " probe calls");
+            }
+            probesAllowed--;
+        }
+        return epoch;
+    }
+
+
+    /**
+     * Gives back the permission of a call that was not sent after all, so a half-open circuit can probe with another.
+     */
+    public synchronized void releasePermission(long permission) {
+        if (permission == epoch && state == CircuitState.HALF_OPEN && probesAllowed < policy.getHalfOpenCalls()) {
+            probesAllowed++;
+        }
+    }
+
+
+    /**
+     * Records a call that was let through and got a response; server errors count as failures, client errors are
+     * the caller's doing and do not.
+     */
+    public void onResponse(long permission, long elapsedNanos, int statusCode) {
+        onResult(permission, elapsedNanos, statusCode >= 500 ? "status " + statusCode : null);
+    }
+
+
+    /**
+     * Records a call that was let through and failed without a response; {@code cause} describes the failure in the
+     * open-circuit message.
+     */
+    public void onFailure(long permission, long elapsedNanos, String cause) {
+        onResult(permission, elapsedNanos, cause);
+    }
+
+
+    private synchronized void onResult(long permission, long elapsedNanos, String failure) {
+        if (permission != epoch) {
+            // Granted before the circuit last changed state; the outcomes it belongs with are gone
+            return;
+        }
+        if (failure != null) {
+            lastFailure = failure;
+        }
+        record(failure != null, elapsedNanos >= policy.getSlowCallNanos());
+        if (state == CircuitState.HALF_OPEN) {
+            if (recorded == policy.getHalfOpenCalls()) {
+                transition(exceedsThresholds() ? CircuitState.OPEN : CircuitState.CLOSED);
+            }
+        } else if (recorded >= policy.getMinimumCalls() && exceedsThresholds()) {
+            transition(CircuitState.OPEN);
+        }
+    }
+
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recorded == failed.length) {
+            failures -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        failures += failure ? 1 : 0;
+        slowCalls += slowCall ? 1 : 0;
+        next = (next + 1) % failed.length;
+    }
+
+
+    private boolean exceedsThresholds() {
+        return failures * 100.0 >= policy.getFailureRatePercent() * recorded
+                || slowCalls * 100.0 >= policy.getSlowCallRatePercent() * recorded;
+    }
+
+
+    private void transition(CircuitState target) {
+        if (target == CircuitState.OPEN) {
+            openedAt = System.nanoTime();
+            openReason = failures * 100.0 >= policy.getFailureRatePercent() * recorded
+                    ? failures + " of the last " + recorded + " calls failed, last with " + lastFailure
+                    : slowCalls + " of the last " + recorded + " calls took over "
+                    + TimeUnit.NANOSECONDS.toMillis(policy.getSlowCallNanos()) + " ms";
+            logger.warn("Circuit of {} opened - {}; failing calls for {} ms",
+                    name, openReason, TimeUnit.NANOSECONDS.toMillis(policy.getOpenNanos()));
+        } else if (target == CircuitState.CLOSED) {
+            logger.info("Circuit of {} closed after {} probe calls", name, recorded);
+        }
+        state = target;
+        epoch++;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+
+    private CircuitOpenException rejected(String detail) {
+        policy.recordRejected();
+        return new CircuitOpenException("Circuit open for " + name + ", not sending the request - " + detail);
+    }
+}
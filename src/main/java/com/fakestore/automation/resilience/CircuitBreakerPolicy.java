@@ -0,0 +1,136 @@
+package com.fakestore.automation.resilience;
+
+import com.fakestore.automation.config.FrameworkConfig;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Settings of the {@code circuit.*} keys and the {@link CircuitBreaker} of every route template on every host
+ * they apply to, shared by all service instances. A route's breaker is created by its first request.
+ */
+public final class CircuitBreakerPolicy {
+    public static final String ENABLED_PROPERTY = "circuit.enabled";
+    public static final String WINDOW_SIZE_PROPERTY = "circuit.windowSize";
+    public static final String MINIMUM_CALLS_PROPERTY = "circuit.minimumCalls";
+    public static final String FAILURE_RATE_PROPERTY = "circuit.failureRatePercent";
+    public static final String SLOW_CALL_RATE_PROPERTY = "circuit.slowCallRatePercent";
+    public static final String SLOW_CALL_PROPERTY = "circuit.slowCallMs";
+    public static final String OPEN_PROPERTY = "circuit.openMs";
+    public static final String HALF_OPEN_CALLS_PROPERTY = "circuit.halfOpenCalls";
+
+    private final boolean enabled;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRatePercent;
+    private final double slowCallRatePercent;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    public CircuitBreakerPolicy(boolean enabled, int windowSize, int minimumCalls, double failureRatePercent,
+                                double slowCallRatePercent, Duration slowCall, Duration open, int halfOpenCalls) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Circuit breaker needs 1 <= minimumCalls <= windowSize, but got: "
+                    + minimumCalls + ", " + windowSize);
+        }
+        if (halfOpenCalls < 1 || halfOpenCalls > windowSize) {
+            throw new IllegalArgumentException("Circuit breaker needs 1 <= halfOpenCalls <= windowSize, but got: "
+                    + halfOpenCalls + ", " + windowSize);
+        }
+        if (!(failureRatePercent > 0 && failureRatePercent <= 100) || !(slowCallRatePercent > 0 && slowCallRatePercent <= 100)) {
+            throw new IllegalArgumentException("Circuit breaker rates must be in (0, 100], but were: "
+                    + failureRatePercent + ", " + slowCallRatePercent);
+        }
+        this.enabled = enabled;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRatePercent = failureRatePercent;
+        this.slowCallRatePercent = slowCallRatePercent;
+        this.slowCallNanos = slowCall.toNanos();
+        this.openNanos = open.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+
+    public static CircuitBreakerPolicy from(FrameworkConfig config) {
+        return new CircuitBreakerPolicy(config.getBoolean(ENABLED_PROPERTY), config.getInt(WINDOW_SIZE_PROPERTY),
+                config.getInt(MINIMUM_CALLS_PROPERTY), config.getDouble(FAILURE_RATE_PROPERTY),
+                config.getDouble(SLOW_CALL_RATE_PROPERTY), Duration.ofMillis(config.getLong(SLOW_CALL_PROPERTY)),
+                Duration.ofMillis(config.getLong(OPEN_PROPERTY)), config.getInt(HALF_OPEN_CALLS_PROPERTY));
+    }
+
+
+    /**
+     * The breaker of requests to {@code route} on {@code baseUri}, or null when breakers are disabled.
+     * All methods of a route share one, as they usually fail together.
+     */
+    public CircuitBreaker breaker(String baseUri, String route) {
+        if (!enabled) {
+            return null;
+        }
+        return breakers.computeIfAbsent(baseUri + route, name -> new CircuitBreaker(name, this));
+    }
+
+
+    /**
+     * How many requests the breakers failed fast, and which are not closed, for {@code RequestPolicies#logSummary}.
+     */
+    public String summary() {
+        if (!enabled) {
+            return "off";
+        }
+        StringBuilder states = new StringBuilder();
+        breakers.values().forEach(breaker -> {
+            CircuitState state = breaker.getState();
+            if (state != CircuitState.CLOSED) {
+                states.append(states.isEmpty() ? "" : ", ").append(breaker.getName()).append('=').append(state);
+            }
+        });
+        return "failed " + rejected.sum() + " requests fast, not closed: " + (states.isEmpty() ? "none" : states);
+    }
+
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+
+    int getWindowSize() {
+        return windowSize;
+    }
+
+
+    int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+
+    double getFailureRatePercent() {
+        return failureRatePercent;
+    }
+
+
+    double getSlowCallRatePercent() {
+        return slowCallRatePercent;
+    }
+
+
+    long getSlowCallNanos() {
+        return slowCallNanos;
+    }
+
+
+    long getOpenNanos() {
+        return openNanos;
+    }
+
+
+    int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+}
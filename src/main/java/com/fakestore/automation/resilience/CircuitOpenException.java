@@ -0,0 +1,12 @@
+package com.fakestore.automation.resilience;
+
+/**
+ * Thrown instead of sending a request while the {@link CircuitBreaker} of its route is open.
+ * The request never reached the server.
+ */
+public class CircuitOpenException extends IllegalStateException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.fakestore.automation.resilience;
+
+/**
+ * State of a {@link CircuitBreaker}.
+ */
+public enum CircuitState {
+    /** Calls go through and their outcomes are counted. */
+    CLOSED,
+    /** Calls fail at once, until {@code circuit.openMs} has passed. */
+    OPEN,
+    /** A few probe calls go through; their outcomes decide between closing and opening again. */
+    HALF_OPEN
+}
@@ -0,0 +1,12 @@
+package com.fakestore.automation.resilience;
+
+/**
+ * Thrown instead of sending a request that the client-side rate limit does not allow in time,
+ * see {@link RateLimiter}. The request never reached the server.
+ */
+public class RateLimitExceededException extends IllegalStateException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
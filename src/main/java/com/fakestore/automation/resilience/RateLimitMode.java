@@ -0,0 +1,28 @@
+package com.fakestore.automation.resilience;
+
+import com.fakestore.automation.config.FrameworkConfig;
+
+import java.util.Locale;
+
+/**
+ * What {@link RateLimiter} does with a request that has no token yet.
+ * Selected with the {@code ratelimit.mode} setting of {@link FrameworkConfig}.
+ */
+public enum RateLimitMode {
+    /** Wait for the token, up to {@code ratelimit.maxWaitMs}. */
+    BLOCK,
+    /** Reject the request at once. */
+    SHED;
+
+    public static final String MODE_PROPERTY = "ratelimit.mode";
+
+
+    public static RateLimitMode from(FrameworkConfig config) {
+        String mode = config.getString(MODE_PROPERTY);
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown rate limit mode '" + mode + "', expected block or shed", e);
+        }
+    }
+}
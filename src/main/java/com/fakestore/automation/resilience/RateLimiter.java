@@ -0,0 +1,172 @@
+package com.fakestore.automation.resilience;
+
+import com.fakestore.automation.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Client-side rate limits, so parallel tests and load runs stay under what the target host accepts instead of
+ * tripping its throttling.
+ * <p>
+ * Every base URI gets a {@link TokenBucket} of {@code ratelimit.ratePerSecond}, and each route template listed in
+ * {@code ratelimit.routes} (e.g. {@code /products/{id}=20,/carts=5}) a bucket of its own on top; a rate of 0 means
+ * no limit. A request needs a token from every bucket that applies. The buckets belong to the limiter of the current
+ * configuration, so all service instances share them.
+ * <p>
+ * In {@link RateLimitMode#BLOCK} mode a caller waits for its tokens, parking rather than holding a lock or monitor, so
+ * waiting virtual threads release their carrier; a request that would wait longer than {@code ratelimit.maxWaitMs}
+ * is rejected instead. In {@link RateLimitMode#SHED} mode a request is rejected whenever a token is not available at once.
+ * Rejected requests are not sent and fail with a {@link RateLimitExceededException}.
+ */
+public final class RateLimiter {
+    public static final String RATE_PROPERTY = "ratelimit.ratePerSecond";
+    public static final String ROUTES_PROPERTY = "ratelimit.routes";
+    public static final String BURST_PROPERTY = "ratelimit.burst";
+    public static final String MAX_WAIT_PROPERTY = "ratelimit.maxWaitMs";
+
+    private static final Logger logger = LogManager.getLogger(RateLimiter.class);
+
+    private final RateLimitMode mode;
+    private final double ratePerSecond;
+    private final Map<String, Double> routeRates;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final Map<String, TokenBucket> hostBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> routeBuckets = new ConcurrentHashMap<>();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public RateLimiter(RateLimitMode mode, double ratePerSecond, Map<String, Double> routeRates,
+                       int burst, long maxWaitMillis) {
+        if (ratePerSecond < 0 || burst < 1 || maxWaitMillis < 0) {
+            throw new IllegalArgumentException("Rate limit needs rate >= 0, burst >= 1 and maxWaitMs >= 0, but got: "
+                    + ratePerSecond + ", " + burst + ", " + maxWaitMillis);
+        }
+        this.mode = mode;
+        this.ratePerSecond = ratePerSecond;
+        this.routeRates = Collections.unmodifiableMap(new LinkedHashMap<>(routeRates));
+        this.burst = burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+
+    public static RateLimiter from(FrameworkConfig config) {
+        return new RateLimiter(RateLimitMode.from(config), config.getDouble(RATE_PROPERTY),
+                parseRoutes(config.getString(ROUTES_PROPERTY)), config.getInt(BURST_PROPERTY),
+                config.getLong(MAX_WAIT_PROPERTY));
+    }
+
+
+    public RateLimitMode getMode() {
+        return mode;
+    }
+
+
+    /**
+     * Waits until a request to {@code route} on {@code baseUri} is allowed.
+     *
+     * @throws RateLimitExceededException if the request is not allowed in time
+     */
+    public void acquire(String baseUri, String route) {
+        long wait = reserve(baseUri, route);
+        if (wait == 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + wait;
+        for (long remaining = wait; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Interrupted while waiting for the rate limit of " + route);
+            }
+        }
+    }
+
+
+    /**
+     * Reserves the tokens for a request to {@code route} on {@code baseUri} without waiting for them, for callers
+     * that delay the request themselves.
+     *
+     * @return nanoseconds until the request may be sent, 0 if it may be sent now
+     * @throws RateLimitExceededException if the request is not allowed in time
+     */
+    public long reserve(String baseUri, String route) {
+        long limit = mode == RateLimitMode.SHED ? 0 : maxWaitNanos;
+        long wait = 0;
+        // The route first, as it is usually the tighter limit; a token it took is not returned if the host refuses
+        Double routeRate = routeRates.get(route);
+        if (routeRate != null) {
+            wait = take(routeBuckets.computeIfAbsent(baseUri + route, key -> new TokenBucket(routeRate, burst)),
+                    limit, route);
+        }
+        if (ratePerSecond > 0) {
+            wait = Math.max(wait, take(hostBuckets.computeIfAbsent(baseUri, key -> new TokenBucket(ratePerSecond, burst)),
+                    limit, baseUri));
+        }
+        if (wait > 0) {
+            waited.increment();
+            waitedNanos.add(wait);
+            logger.debug("Rate limit delays {} by {} ms", route, TimeUnit.NANOSECONDS.toMillis(wait));
+        }
+        return wait;
+    }
+
+
+    private long take(TokenBucket bucket, long maxWaitNanos, String limited) {
+        long wait = bucket.reserve(maxWaitNanos);
+        if (wait < 0) {
+            rejected.increment();
+            throw new RateLimitExceededException("Rate limit of " + bucket.getRatePerSecond() + " req/s for "
+                    + limited + " exceeded");
+        }
+        return wait;
+    }
+
+
+    /**
+     * What the limit did so far, for {@code RequestPolicies#logSummary}.
+     */
+    public String summary() {
+        if (ratePerSecond == 0 && routeRates.isEmpty()) {
+            return "off";
+        }
+        return "delayed " + waited.sum() + " requests by " + TimeUnit.NANOSECONDS.toMillis(waitedNanos.sum())
+                + " ms in total, rejected " + rejected.sum();
+    }
+
+
+    private static Map<String, Double> parseRoutes(String spec) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            // Split at the last '=', route templates do not contain one
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid " + ROUTES_PROPERTY + " entry '" + entry + "', expected route=ratePerSecond");
+            }
+            double rate;
+            try {
+                rate = Double.parseDouble(entry.substring(separator + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid rate in " + ROUTES_PROPERTY + " entry '" + entry + "'", e);
+            }
+            if (rate < 0) {
+                throw new IllegalArgumentException("Rate must not be negative: " + entry);
+            }
+            if (rate > 0) {
+                rates.put(entry.substring(0, separator).trim(), rate);
+            }
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fakestore.automation.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries across the whole process, so a struggling server does not get two or three times its normal
+ * traffic from retries on top of it.
+ * <p>
+ * Every request earns {@code ratio} of a retry, and a floor of {@code minPerSecond} retries is earned over time
+ * so a quiet test run can still retry; each retry spends one. Long term, retries stay within
+ * {@code ratio * requests + minPerSecond * seconds}. At most {@value #BURST_SECONDS} seconds' worth of the
+ * floor, and never less than {@value #MIN_CAPACITY} retries, can be saved up for a burst.
+ * <p>
+ * Every request passes through here, so like {@link TokenBucket} it is lock-free: the balance is a count of
+ * billionths of a retry, updated with compare-and-set, and the time-based credit is claimed by whichever caller
+ * moves the refill timestamp forward.
+ */
+public final class RetryBudget {
+    static final int BURST_SECONDS = 10;
+    static final double MIN_CAPACITY = 10;
+
+    // Units of the balance per retry; a nanosecond of minPerSecond = 1 earns exactly one unit
+    private static final long UNITS_PER_RETRY = 1_000_000_000L;
+
+    private final long ratioUnits;
+    private final double minPerSecond;
+    private final long capacityUnits;
+    private final AtomicLong balance;
+    private final AtomicLong lastRefillNanos;
+
+    public RetryBudget(double ratio, double minPerSecond) {
+        if (ratio < 0 || minPerSecond < 0) {
+            throw new IllegalArgumentException("Retry budget ratio and minPerSecond must not be negative, but were: "
+                    + ratio + ", " + minPerSecond);
+        }
+        this.ratioUnits = Math.round(ratio * UNITS_PER_RETRY);
+        this.minPerSecond = minPerSecond;
+        this.capacityUnits = Math.round(Math.max(MIN_CAPACITY, minPerSecond * BURST_SECONDS) * UNITS_PER_RETRY);
+        this.balance = new AtomicLong(capacityUnits);
+        this.lastRefillNanos = new AtomicLong(System.nanoTime());
+    }
+
+
+    /**
+     * Credits one first attempt.
+     */
+    public void recordRequest() {
+        credit(ratioUnits);
+    }
+
+
+    /**
+     * Spends one retry if the budget has one left.
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long last = lastRefillNanos.get();
+        // Only the caller that moves the timestamp gets the time since it; a loser's share is in the winner's credit
+        if (now - last > 0 && lastRefillNanos.compareAndSet(last, now)) {
+            credit((long) Math.min(capacityUnits, (now - last) * minPerSecond));
+        }
+        while (true) {
+            long current = balance.get();
+            if (current < UNITS_PER_RETRY) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNITS_PER_RETRY)) {
+                return true;
+            }
+        }
+    }
+
+
+    private void credit(long units) {
+        if (units > 0) {
+            balance.accumulateAndGet(units, (current, added) -> Math.min(capacityUnits, current + added));
+        }
+    }
+}
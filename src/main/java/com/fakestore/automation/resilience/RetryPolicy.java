@@ -0,0 +1,227 @@
+package com.fakestore.automation.resilience;
+
+import com.fakestore.automation.config.FrameworkConfig;
+import com.fakestore.automation.metrics.RetryStats;
+import com.fakestore.automation.metrics.RetrySummary;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Re-sends a request that failed in a way worth retrying: a response with one of the retryable statuses
+ * (by default 502, 503 and 504) or an I/O failure such as a connection reset or a read timeout.
+ * <p>
+ * Only the methods listed as retryable are retried - by default the idempotent ones, so a POST that may have
+ * reached the server is never sent twice. Before retry {@code n} the policy waits a random time between 0 and
+ * {@code min(maxDelay, baseDelay * 2^(n-1))} ("full jitter"), so clients that failed together do not retry
+ * together. Retries also draw from a process-wide {@link RetryBudget}; once it is spent, failures are returned
+ * as they are. Retries, recoveries, exhaustion and budget denials are counted in {@link RetryStats}.
+ */
+public final class RetryPolicy {
+    public static final String MAX_ATTEMPTS_PROPERTY = "retry.maxAttempts";
+    public static final String BASE_DELAY_PROPERTY = "retry.baseDelayMs";
+    public static final String MAX_DELAY_PROPERTY = "retry.maxDelayMs";
+    public static final String METHODS_PROPERTY = "retry.methods";
+    public static final String STATUSES_PROPERTY = "retry.statuses";
+    public static final String BUDGET_RATIO_PROPERTY = "retry.budget.ratio";
+    public static final String BUDGET_MIN_PER_SECOND_PROPERTY = "retry.budget.minPerSecond";
+
+    /** Sends every request exactly once. */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, Set.of(), Set.of(),
+            new RetryBudget(0, 0));
+
+    private static final Logger logger = LogManager.getLogger(RetryPolicy.class);
+
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final Set<Method> methods;
+    private final Set<Integer> statuses;
+    private final RetryBudget budget;
+    private final RetryStats stats;
+
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Set<Method> methods,
+                       Set<Integer> statuses, RetryBudget budget) {
+        this(maxAttempts, baseDelay, maxDelay, methods, statuses, budget, RetryStats.getInstance());
+    }
+
+
+    /**
+     * A policy counting into {@code stats} instead of the process-wide {@link RetryStats#getInstance()}.
+     */
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Set<Method> methods,
+                       Set<Integer> statuses, RetryBudget budget, RetryStats stats) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException(MAX_ATTEMPTS_PROPERTY + " must be at least 1, but was: " + maxAttempts);
+        }
+        if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Retry delays must satisfy 0 <= base <= max, but were: "
+                    + baseDelay.toMillis() + " ms, " + maxDelay.toMillis() + " ms");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.methods = methods.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(methods));
+        this.statuses = Set.copyOf(statuses);
+        this.budget = budget;
+        this.stats = stats;
+    }
+
+
+    public static RetryPolicy from(FrameworkConfig config) {
+        return new RetryPolicy(config.getInt(MAX_ATTEMPTS_PROPERTY),
+                Duration.ofMillis(config.getLong(BASE_DELAY_PROPERTY)),
+                Duration.ofMillis(config.getLong(MAX_DELAY_PROPERTY)),
+                parseMethods(config.getString(METHODS_PROPERTY)),
+                parseStatuses(config.getString(STATUSES_PROPERTY)),
+                new RetryBudget(config.getDouble(BUDGET_RATIO_PROPERTY), config.getDouble(BUDGET_MIN_PER_SECOND_PROPERTY)),
+                RetryStats.getInstance());
+    }
+
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+
+    /**
+     * The retry counters this policy records into, for {@code RequestPolicies#logSummary}.
+     */
+    public String summary() {
+        if (maxAttempts == 1) {
+            return "off";
+        }
+        RetrySummary summary = stats.snapshot();
+        return "sent " + summary.retries() + ", recovered " + summary.recovered() + ", exhausted " + summary.exhausted()
+                + ", denied by budget " + summary.budgetDenied()
+                + ", total backoff " + String.format("%.1f", summary.backoffMillis()) + " ms";
+    }
+
+
+    public boolean isRetryable(Method method) {
+        return maxAttempts > 1 && methods.contains(method);
+    }
+
+
+    /**
+     * Runs {@code attempt} until it returns a response that is not retryable, or retrying is no longer allowed;
+     * then returns the last response or rethrows the last failure. A response that is retried is read to the
+     * end first, which releases its connection.
+     */
+    public Response execute(Method method, Supplier<Response> attempt) {
+        budget.recordRequest();
+        boolean retryable = isRetryable(method);
+        for (int attempts = 1; ; attempts++) {
+            Response response;
+            try {
+                response = attempt.get();
+            } catch (Exception e) {
+                // Exception, not RuntimeException: RestAssured throws IOExceptions without declaring them
+                if (!retryable || !isRetryable(e) || !mayRetry(attempts)) {
+                    throw e;
+                }
+                logger.debug("Attempt {} of {} failed with {}, retrying", attempts, method, e.toString());
+                backOff(attempts);
+                continue;
+            }
+            if (!retryable || !statuses.contains(response.getStatusCode())) {
+                // Only a success recovers a request; a 4xx after a 503 is still a failed request
+                if (attempts > 1 && response.getStatusCode() / 100 == 2) {
+                    stats.recordRecovered();
+                }
+                return response;
+            }
+            if (!mayRetry(attempts)) {
+                return response;
+            }
+            logger.debug("Attempt {} of {} returned status {}, retrying", attempts, method, response.getStatusCode());
+            response.asByteArray();
+            backOff(attempts);
+        }
+    }
+
+
+    private boolean mayRetry(int attempts) {
+        if (attempts >= maxAttempts) {
+            stats.recordExhausted();
+            return false;
+        }
+        if (!budget.tryAcquire()) {
+            stats.recordBudgetDenied();
+            return false;
+        }
+        return true;
+    }
+
+
+    // Full jitter: uniform in [0, min(max, base * 2^(attempts-1))]
+    private void backOff(int attempts) {
+        long ceiling = baseDelayNanos << Math.min(attempts - 1, 30);
+        if (ceiling < 0 || ceiling > maxDelayNanos) {
+            ceiling = maxDelayNanos;
+        }
+        long delay = ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+        stats.recordRetry(delay);
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+
+
+    // Connection resets, refused connections and timeouts; RestAssured rethrows them undeclared
+    private static boolean isRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private static Set<Method> parseMethods(String value) {
+        Set<Method> methods = EnumSet.noneOf(Method.class);
+        for (String name : value.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            try {
+                methods.add(Method.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown HTTP method '" + name.trim() + "' in " + METHODS_PROPERTY, e);
+            }
+        }
+        return methods;
+    }
+
+
+    private static Set<Integer> parseStatuses(String value) {
+        Set<Integer> statuses = new HashSet<>();
+        for (String status : value.split(",")) {
+            if (status.isBlank()) {
+                continue;
+            }
+            try {
+                statuses.add(Integer.parseInt(status.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid status '" + status.trim() + "' in " + STATUSES_PROPERTY, e);
+            }
+        }
+        return statuses;
+    }
+}
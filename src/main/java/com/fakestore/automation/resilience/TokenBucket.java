@@ -0,0 +1,74 @@
+package com.fakestore.automation.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket: {@code ratePerSecond} tokens are added per second, up to {@code burst}.
+ * <p>
+ * Rather than a token count, the bucket keeps the time at which it will next be full, in {@link System#nanoTime()}
+ * units, and moves it forward by one token's worth on every reservation with a compare-and-set - the "virtual
+ * scheduling" form of a token bucket. A caller that does not get a token now can reserve one later, and is told how
+ * long to wait for it, so waiting callers are served in arrival order without a queue or a lock.
+ */
+public final class TokenBucket {
+    private final double ratePerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long burstNanos;
+    // When the bucket would be full again if nothing else were reserved; "full" is anything at or before now
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (!(ratePerSecond > 0) || burst < 1) {
+            throw new IllegalArgumentException("Token bucket rate must be positive and burst at least 1, but were: "
+                    + ratePerSecond + ", " + burst);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, Math.round(1e9 / ratePerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+
+    public int getBurst() {
+        return burst;
+    }
+
+
+    /**
+     * Takes a token if one is available now.
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+
+    /**
+     * Reserves the next token, if it becomes available within {@code maxWaitNanos}.
+     *
+     * @return nanoseconds the caller has to wait before using the token, 0 if it can be used now,
+     * or -1 if none is available in time; nothing is reserved then
+     */
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            // A full bucket does not save up more than burst tokens
+            long from = current - now < 0 ? now : current;
+            long next = from + intervalNanos;
+            long wait = next - burstNanos - now;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.fakestore.automation.services;
+
+import io.restassured.http.Method;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One call made through {@link BaseService}: the HTTP method, the endpoint template as declared in
+ * {@link com.fakestore.automation.constants.ApiEndpoints}, and the optional path parameter, query parameter, headers and
+ * body.
+ * Instances are immutable; the {@code with*} methods return a copy.
+ */
+public final class ApiRequest {
+    private final Method method;
+    private final String endpoint;
+    private final String pathParamName;
+    private final Object pathParamValue;
+    private final String queryParamName;
+    private final Object queryParamValue;
+    private final Map<String, String> headers;
+    private final Object body;
+
+    private ApiRequest(Method method, String endpoint, String pathParamName, Object pathParamValue,
+                       String queryParamName, Object queryParamValue, Map<String, String> headers, Object body) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.pathParamName = pathParamName;
+        this.pathParamValue = pathParamValue;
+        this.queryParamName = queryParamName;
+        this.queryParamValue = queryParamValue;
+        this.headers = headers;
+        this.body = body;
+    }
+
+
+    public static ApiRequest of(Method method, String endpoint) {
+        return new ApiRequest(method, endpoint, null, null, null, null, Map.of(), null);
+    }
+
+
+    public ApiRequest withPathParam(String name, Object value) {
+        return new ApiRequest(method, endpoint, name, value, queryParamName, queryParamValue, headers, body);
+    }
+
+
+    public ApiRequest withQueryParam(String name, Object value) {
+        return new ApiRequest(method, endpoint, pathParamName, pathParamValue, name, value, headers, body);
+    }
+
+
+    /**
+     * A header on top of those of the request specification, e.g. {@code If-None-Match}.
+     */
+    public ApiRequest withHeader(String name, String value) {
+        Map<String, String> withHeader = new LinkedHashMap<>(headers);
+        withHeader.put(name, value);
+        return new ApiRequest(method, endpoint, pathParamName, pathParamValue, queryParamName, queryParamValue,
+                Map.copyOf(withHeader), body);
+    }
+
+
+    public ApiRequest withBody(Object body) {
+        return new ApiRequest(method, endpoint, pathParamName, pathParamValue, queryParamName, queryParamValue,
+                headers, body);
+    }
+
+
+    public Method getMethod() {
+        return method;
+    }
+
+
+    /**
+     * The endpoint template, e.g. {@code /products/{id}} - stable across parameter values, so it identifies the route.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+
+    public String getPathParamName() {
+        return pathParamName;
+    }
+
+
+    public Object getPathParamValue() {
+        return pathParamValue;
+    }
+
+
+    public String getQueryParamName() {
+        return queryParamName;
+    }
+
+
+    public Object getQueryParamValue() {
+        return queryParamValue;
+    }
+
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+
+    public Object getBody() {
+        return body;
+    }
+
+
+    public boolean hasPathParam() {
+        return pathParamName != null;
+    }
+
+
+    public boolean hasQueryParam() {
+        return queryParamName != null;
+    }
+
+
+    public boolean hasBody() {
+        return body != null;
+    }
+
+
+    @Override
+    public String toString() {
+        return method + " " + endpoint;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fakestore.automation.services;
+
+import com.fakestore.automation.constants.ApiEndpoints;
+import com.fakestore.automation.models.request.LoginRequest;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncAuthService extends AsyncBaseService {
+
+
+    public CompletableFuture<Response> login(LoginRequest loginRequest) {
+        logger.info("Attempting async login for user: {}", loginRequest.getUsername());
+        return post(ApiEndpoints.LOGIN, loginRequest);
+    }
+
+
+    public CompletableFuture<Response> loginWithJsonString(String jsonBody) {
+        logger.info("Attempting async login with JSON string");
+        return postWithJsonString(ApiEndpoints.LOGIN, jsonBody);
+    }
+}
@@ -0,0 +1,256 @@
+package com.fakestore.automation.services;
+
+import com.fakestore.automation.config.FrameworkConfig;
+import com.fakestore.automation.metrics.LatencyRegistry;
+import com.fakestore.automation.metrics.RequestEvent;
+import com.fakestore.automation.metrics.TestRequestStats;
+import com.fakestore.automation.resilience.CircuitBreaker;
+import com.fakestore.automation.resilience.CircuitOpenException;
+import com.fakestore.automation.resilience.RateLimitExceededException;
+import com.fakestore.automation.utils.RequestBuilder;
+import com.fakestore.automation.utils.RequestPolicies;
+import com.google.gson.Gson;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link BaseService}.
+ * Every verb returns a {@link CompletableFuture} completed by the JDK {@link HttpClient},
+ * so callers can keep hundreds of requests in flight without parking a thread per request.
+ * Completed futures carry a regular RestAssured {@link Response}, so existing validators keep working.
+ */
+public class AsyncBaseService {
+    protected static final Logger logger = LogManager.getLogger(AsyncBaseService.class);
+
+    // One client for the whole process - it owns the selector thread and the connection pool
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(FrameworkConfig.get().getConnectTimeoutMillis()))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private static final Gson gson = new Gson();
+    private static final LatencyRegistry latencies = LatencyRegistry.getInstance();
+    private static final String JSON = "application/json";
+
+    protected final String baseUri;
+    private final Duration requestTimeout;
+
+    public AsyncBaseService() {
+        this.baseUri = RequestBuilder.getBaseUri();
+        this.requestTimeout = Duration.ofMillis(RequestBuilder.getConfig().getReadTimeoutMillis());
+    }
+
+
+    protected CompletableFuture<Response> get(String endpoint) {
+        logger.debug("Sending async GET request to: {}", endpoint);
+        return send("GET", endpoint, null, null, newRequest(endpoint).GET());
+    }
+
+
+    protected CompletableFuture<Response> get(String endpoint, String pathParamName, Object pathParamValue) {
+        logger.debug("Sending async GET request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
+        return send("GET", endpoint, pathParamName, pathParamValue,
+                newRequest(resolvePath(endpoint, pathParamName, pathParamValue)).GET());
+    }
+
+
+    protected CompletableFuture<Response> getWithQueryParam(String endpoint, String queryParamName, Object queryParamValue) {
+        logger.debug("Sending async GET request to: {} with query param: {}={}", endpoint, queryParamName, queryParamValue);
+        String target = endpoint + "?" + encode(queryParamName) + "=" + encode(queryParamValue);
+        return send("GET", endpoint, null, null, newRequest(target).GET());
+    }
+
+
+    protected CompletableFuture<Response> post(String endpoint, Object body) {
+        logger.debug("Sending async POST request to: {}", endpoint);
+        logger.debug("Request body: {}", body);
+        return send("POST", endpoint, null, null, newRequest(endpoint).POST(jsonBody(gson.toJson(body))));
+    }
+
+
+    protected CompletableFuture<Response> postWithJsonString(String endpoint, String jsonBody) {
+        logger.debug("Sending async POST request to: {} with JSON string", endpoint);
+        logger.debug("Request body: {}", jsonBody);
+        return send("POST", endpoint, null, null, newRequest(endpoint).POST(jsonBody(jsonBody)));
+    }
+
+
+    protected CompletableFuture<Response> postWithoutBody(String endpoint) {
+        logger.debug("Sending async POST request to: {} without body", endpoint);
+        return send("POST", endpoint, null, null, newRequest(endpoint).POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+
+    protected CompletableFuture<Response> put(String endpoint, String pathParamName, Object pathParamValue, Object body) {
+        logger.debug("Sending async PUT request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
+        logger.debug("Request body: {}", body);
+        return send("PUT", endpoint, pathParamName, pathParamValue,
+                newRequest(resolvePath(endpoint, pathParamName, pathParamValue)).PUT(jsonBody(gson.toJson(body))));
+    }
+
+
+    protected CompletableFuture<Response> putWithJsonString(String endpoint, String pathParamName, Object pathParamValue, String jsonBody) {
+        logger.debug("Sending async PUT request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
+        logger.debug("Request body: {}", jsonBody);
+        return send("PUT", endpoint, pathParamName, pathParamValue,
+                newRequest(resolvePath(endpoint, pathParamName, pathParamValue)).PUT(jsonBody(jsonBody)));
+    }
+
+
+    protected CompletableFuture<Response> delete(String endpoint, String pathParamName, Object pathParamValue) {
+        logger.debug("Sending async DELETE request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
+        return send("DELETE", endpoint, pathParamName, pathParamValue,
+                newRequest(resolvePath(endpoint, pathParamName, pathParamValue)).DELETE());
+    }
+
+
+    private HttpRequest.Builder newRequest(String target) {
+        return HttpRequest.newBuilder(URI.create(baseUri + target))
+                .timeout(requestTimeout)
+                .header("Content-Type", JSON)
+                .header("Accept", JSON)
+                .header("User-Agent", "FakeStore-Automation-Framework");
+    }
+
+
+    // endpoint is the unresolved template, so latencies are grouped per route rather than per ID
+    private CompletableFuture<Response> send(String method, String endpoint, String pathParamName, Object pathParamValue,
+                                             HttpRequest.Builder requestBuilder) {
+        // Taken on the sending thread; the response completes on one of the client's threads
+        TestRequestStats testStats = TestRequestStats.current();
+        RequestPolicies policies = RequestBuilder.policies();
+        CircuitBreaker breaker = policies.circuitBreakers().breaker(baseUri, endpoint);
+        long permission;
+        try {
+            permission = breaker != null ? breaker.acquirePermission() : 0;
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long wait;
+        try {
+            wait = policies.rateLimiter().reserve(baseUri, endpoint);
+        } catch (RateLimitExceededException e) {
+            if (breaker != null) {
+                breaker.releasePermission(permission);
+            }
+            return CompletableFuture.failedFuture(e);
+        }
+        if (wait == 0) {
+            return dispatch(method, endpoint, pathParamName, pathParamValue, requestBuilder, testStats, breaker, permission);
+        }
+        // Delayed on a timer rather than by parking the caller, which may be fanning out many requests. A delay that
+        // fails never reaches dispatch, which otherwise ends the permission
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS))
+                .handle((ignored, delayFailure) -> {
+                    if (delayFailure == null) {
+                        return dispatch(method, endpoint, pathParamName, pathParamValue, requestBuilder, testStats,
+                                breaker, permission);
+                    }
+                    if (breaker != null) {
+                        breaker.releasePermission(permission);
+                    }
+                    return CompletableFuture.<Response>failedFuture(delayFailure);
+                })
+                .thenCompose(Function.identity());
+    }
+
+
+    // Ends the breaker permission exactly once: with the outcome of the call, or by releasing it if the call cannot
+    // be sent. Never throws; a request that cannot be built or sent completes the future exceptionally
+    private CompletableFuture<Response> dispatch(String method, String endpoint, String pathParamName, Object pathParamValue,
+                                                 HttpRequest.Builder requestBuilder, TestRequestStats testStats,
+                                                 CircuitBreaker breaker, long permission) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> sent;
+        try {
+            sent = httpClient.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            if (breaker != null) {
+                breaker.releasePermission(permission);
+            }
+            return CompletableFuture.failedFuture(e);
+        }
+        return sent
+                .whenComplete((httpResponse, failure) -> {
+                    long elapsed = System.nanoTime() - start;
+                    int statusCode = httpResponse == null ? 0 : httpResponse.statusCode();
+                    if (breaker != null) {
+                        if (httpResponse != null) {
+                            breaker.onResponse(permission, elapsed, statusCode);
+                        } else {
+                            breaker.onFailure(permission, elapsed, failure.toString());
+                        }
+                    }
+                    latencies.record(method, endpoint, elapsed, statusCode);
+                    if (testStats != null) {
+                        testStats.record(elapsed, statusCode);
+                    }
+                    if (httpResponse != null) {
+                        RequestEvent.log(method, endpoint, pathParamName, pathParamValue, statusCode, elapsed,
+                                httpResponse.headers().firstValueAsLong("Content-Length").orElse(-1));
+                    } else {
+                        RequestEvent.logFailure(method, endpoint, pathParamName, pathParamValue, elapsed, failure);
+                    }
+                })
+                .thenApply(httpResponse -> {
+                    Response response = toResponse(httpResponse, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    logger.debug("Received async response with status code: {}", response.getStatusCode());
+                    return response;
+                });
+    }
+
+
+    private static Response toResponse(HttpResponse<String> httpResponse, long elapsedMillis) {
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+
+        Response response = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(httpResponse.version() + " " + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(httpResponse.headers().firstValue("Content-Type").orElse(JSON))
+                .setBody(httpResponse.body())
+                .build();
+
+        // Expose the measured time through Response.getTime() like a regular RestAssured call
+        if (response instanceof RestAssuredResponseImpl restAssuredResponse) {
+            restAssuredResponse.setFilterContextProperties(Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMillis));
+        }
+        return response;
+    }
+
+
+    private static String resolvePath(String endpoint, String pathParamName, Object pathParamValue) {
+        return endpoint.replace("{" + pathParamName + "}", encode(pathParamValue).replace("+", "%20"));
+    }
+
+
+    private static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+
+    private static HttpRequest.BodyPublisher jsonBody(String json) {
+        return HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fakestore.automation.services;
+
+import com.fakestore.automation.constants.ApiEndpoints;
+import com.fakestore.automation.models.request.CartRequest;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncCartService extends AsyncBaseService {
+
+
+    public CompletableFuture<Response> getAllCarts() {
+        logger.info("Getting all carts asynchronously");
+        return get(ApiEndpoints.CARTS);
+    }
+
+
+    public CompletableFuture<Response> getCartById(int cartId) {
+        logger.info("Getting cart asynchronously by ID: {}", cartId);
+        return get(ApiEndpoints.CART_BY_ID, "id", cartId);
+    }
+
+
+    public CompletableFuture<Response> getCartsByUserId(int userId) {
+        logger.info("Getting carts asynchronously for user ID: {}", userId);
+        return get(ApiEndpoints.CARTS_BY_USER, "userId", userId);
+    }
+
+
+    public CompletableFuture<Response> createCart(CartRequest cartRequest) {
+        logger.info("Creating new cart asynchronously for user ID: {}", cartRequest.getUserId());
+        return post(ApiEndpoints.CARTS, cartRequest);
+    }
+
+
+    public CompletableFuture<Response> createCartWithJsonString(String jsonBody) {
+        logger.info("Creating cart asynchronously with JSON string");
+        return postWithJsonString(ApiEndpoints.CARTS, jsonBody);
+    }
+
+
+    public CompletableFuture<Response> updateCart(int cartId, CartRequest cartRequest) {
+        logger.info("Updating cart asynchronously, ID: {}", cartId);
+        return put(ApiEndpoints.CART_BY_ID, "id", cartId, cartRequest);
+    }
+
+
+    public CompletableFuture<Response> deleteCart(int cartId) {
+        logger.info("Deleting cart asynchronously, ID: {}", cartId);
+        return delete(ApiEndpoints.CART_BY_ID, "id", cartId);
+    }
+}
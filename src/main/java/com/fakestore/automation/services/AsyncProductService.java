@@ -0,0 +1,58 @@
+package com.fakestore.automation.services;
+
+import com.fakestore.automation.constants.ApiEndpoints;
+import com.fakestore.automation.models.request.ProductRequest;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncProductService extends AsyncBaseService {
+
+
+    public CompletableFuture<Response> getAllProducts() {
+        logger.info("Getting all products asynchronously");
+        return get(ApiEndpoints.PRODUCTS);
+    }
+
+
+    public CompletableFuture<Response> getAllProductsWithLimit(int limit) {
+        logger.info("Getting products asynchronously with limit: {}", limit);
+        return getWithQueryParam(ApiEndpoints.PRODUCTS, "limit", limit);
+    }
+
+
+    public CompletableFuture<Response> getProductById(int productId) {
+        logger.info("Getting product asynchronously by ID: {}", productId);
+        return get(ApiEndpoints.PRODUCT_BY_ID, "id", productId);
+    }
+
+
+    public CompletableFuture<Response> createProduct(ProductRequest productRequest) {
+        logger.info("Creating new product asynchronously: {}", productRequest.getTitle());
+        return post(ApiEndpoints.PRODUCTS, productRequest);
+    }
+
+
+    public CompletableFuture<Response> createProductWithJsonString(String jsonBody) {
+        logger.info("Creating product asynchronously with JSON string");
+        return postWithJsonString(ApiEndpoints.PRODUCTS, jsonBody);
+    }
+
+
+    public CompletableFuture<Response> updateProduct(int productId, ProductRequest productRequest) {
+        logger.info("Updating product asynchronously, ID: {}", productId);
+        return put(ApiEndpoints.PRODUCT_BY_ID, "id", productId, productRequest);
+    }
+
+
+    public CompletableFuture<Response> updateProductWithJsonString(int productId, String jsonBody) {
+        logger.info("Updating product asynchronously, ID: {} with JSON string", productId);
+        return putWithJsonString(ApiEndpoints.PRODUCT_BY_ID, "id", productId, jsonBody);
+    }
+
+
+    public CompletableFuture<Response> deleteProduct(int productId) {
+        logger.info("Deleting product asynchronously, ID: {}", productId);
+        return delete(ApiEndpoints.PRODUCT_BY_ID, "id", productId);
+    }
+}
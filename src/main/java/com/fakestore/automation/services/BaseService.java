@@ -1,166 +1,315 @@
 package com.fakestore.automation.services;
 
+import com.fakestore.automation.cache.CachedResponse;
+import com.fakestore.automation.cache.ResponseCache;
+import com.fakestore.automation.cache.SingleFlight;
+import com.fakestore.automation.capture.ResponseCaptures;
+import com.fakestore.automation.metrics.LatencyRegistry;
+import com.fakestore.automation.metrics.RequestEvent;
+import com.fakestore.automation.metrics.TestRequestStats;
+import com.fakestore.automation.resilience.CircuitBreaker;
+import com.fakestore.automation.resilience.RetryPolicy;
+import com.fakestore.automation.utils.JsonArrayStream;
 import com.fakestore.automation.utils.RequestBuilder;
+import com.fakestore.automation.utils.RequestPolicies;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.stream.Stream;
+
 import static io.restassured.RestAssured.given;
 
 public class BaseService {
     protected static final Logger logger = LogManager.getLogger(BaseService.class);
+    private static final LatencyRegistry latencies = LatencyRegistry.getInstance();
     protected RequestSpecification requestSpec;
+    private final String baseUri;
 
     public BaseService() {
         this.requestSpec = RequestBuilder.buildRequestSpec();
+        this.baseUri = RequestBuilder.getBaseUri();
     }
 
 
     protected Response get(String endpoint) {
-        logger.info("Sending GET request to: {}", endpoint);
-        Response response = given()
-                .spec(requestSpec)
-                .when()
-                .get(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.GET, endpoint));
     }
 
 
     protected Response get(String endpoint, String pathParamName, Object pathParamValue) {
-        logger.info("Sending GET request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
-        Response response = given()
-                .spec(requestSpec)
-                .pathParam(pathParamName, pathParamValue)
-                .when()
-                .get(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.GET, endpoint).withPathParam(pathParamName, pathParamValue));
     }
 
 
     protected Response getWithQueryParam(String endpoint, String queryParamName, Object queryParamValue) {
-        logger.info("Sending GET request to: {} with query param: {}={}", endpoint, queryParamName, queryParamValue);
-        Response response = given()
-                .spec(requestSpec)
-                .queryParam(queryParamName, queryParamValue)
-                .when()
-                .get(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.GET, endpoint).withQueryParam(queryParamName, queryParamValue));
     }
 
 
     protected Response post(String endpoint, Object body) {
-        logger.info("Sending POST request to: {}", endpoint);
-        logger.debug("Request body: {}", body);
-        Response response = given()
-                .spec(requestSpec)
-                .body(body)
-                .when()
-                .post(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.POST, endpoint).withBody(body));
     }
 
 
     protected Response postWithJsonString(String endpoint, String jsonBody) {
-        logger.info("Sending POST request to: {} with JSON string", endpoint);
-        logger.debug("Request body: {}", jsonBody);
-        Response response = given()
-                .spec(requestSpec)
-                .body(jsonBody)
-                .when()
-                .post(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.POST, endpoint).withBody(jsonBody));
     }
 
 
     protected Response postWithoutBody(String endpoint) {
-        logger.info("Sending POST request to: {} without body", endpoint);
-        Response response = given()
-                .spec(requestSpec)
-                .when()
-                .post(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.POST, endpoint));
     }
 
 
     protected Response put(String endpoint, String pathParamName, Object pathParamValue, Object body) {
-        logger.info("Sending PUT request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
-        logger.debug("Request body: {}", body);
-        Response response = given()
-                .spec(requestSpec)
-                .pathParam(pathParamName, pathParamValue)
-                .body(body)
-                .when()
-                .put(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.PUT, endpoint).withPathParam(pathParamName, pathParamValue).withBody(body));
     }
 
 
     protected Response putWithJsonString(String endpoint, String pathParamName, Object pathParamValue, String jsonBody) {
-        logger.info("Sending PUT request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
-        logger.debug("Request body: {}", jsonBody);
-        Response response = given()
-                .spec(requestSpec)
-                .pathParam(pathParamName, pathParamValue)
-                .body(jsonBody)
-                .when()
-                .put(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
-        return response;
+        return execute(ApiRequest.of(Method.PUT, endpoint).withPathParam(pathParamName, pathParamValue).withBody(jsonBody));
     }
 
 
     protected Response delete(String endpoint, String pathParamName, Object pathParamValue) {
-        logger.info("Sending DELETE request to: {} with path param: {}={}", endpoint, pathParamName, pathParamValue);
-        Response response = given()
-                .spec(requestSpec)
-                .pathParam(pathParamName, pathParamValue)
-                .when()
-                .delete(endpoint)
-                .then()
-                .extract()
-                .response();
-
-        logger.info("Received response with status code: {}", response.getStatusCode());
+        return execute(ApiRequest.of(Method.DELETE, endpoint).withPathParam(pathParamName, pathParamValue));
+    }
+
+
+    /**
+     * Sends the request and binds the elements of the JSON array body one at a time, as they arrive.
+     * The returned stream holds the pooled connection until it is exhausted or closed.
+     *
+     * @throws IllegalStateException if the response is not a 200
+     */
+    protected <T> Stream<T> stream(ApiRequest request, Class<T> elementType) {
+        Response response = send(request, false);
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Expected status code 200 for " + request + " but got "
+                    + response.getStatusCode() + ": " + response.asString());
+        }
+        return JsonArrayStream.of(response.asInputStream(), elementType);
+    }
+
+
+    /**
+     * Sends the request - or answers a GET from the response cache when {@code cache.enabled}, or with the response
+     * of an identical GET already in flight when {@code coalesce.enabled} - and, while a test is running on this
+     * thread, captures the response body under the {@code capture.*} policy for the report of a failed test.
+     */
+    protected Response execute(ApiRequest request) {
+        RequestPolicies policies = RequestBuilder.policies();
+        ResponseCache cache = responseCache();
+        SingleFlight singleFlight = policies.singleFlight();
+        Response response;
+        if (request.getMethod() != Method.GET) {
+            response = write(cache, singleFlight, request);
+        } else if (singleFlight.isEnabled()) {
+            response = singleFlight.execute(cacheKey(request), () -> read(cache, request));
+        } else {
+            response = read(cache, request);
+        }
+        if (ResponseCaptures.isActive()) {
+            ResponseCaptures.record(policies.capture().capture(request.toString(), response));
+        }
         return response;
     }
-}
\ No newline at end of file
+
+
+    private Response read(ResponseCache cache, ApiRequest request) {
+        return cache.isEnabled() ? sendCached(cache, request) : send(request, true);
+    }
+
+
+    private Response write(ResponseCache cache, SingleFlight singleFlight, ApiRequest request) {
+        if (!cache.isEnabled() && !singleFlight.isEnabled()) {
+            return send(request, true);
+        }
+        try {
+            return send(request, true);
+        } finally {
+            // Whether or not it succeeded, the write may have changed the collection: later reads must neither be
+            // answered from the cache nor join a read sent before it
+            String collectionKey = baseUri + collection(request.getEndpoint());
+            if (cache.isEnabled()) {
+                cache.invalidate(collectionKey);
+            }
+            if (singleFlight.isEnabled()) {
+                singleFlight.detach(collectionKey);
+            }
+        }
+    }
+
+
+    // Fresh responses come from the cache; expired ones with validators are revalidated with a conditional GET
+    private Response sendCached(ResponseCache cache, ApiRequest request) {
+        String key = cacheKey(request);
+        CachedResponse cached = cache.get(key);
+        if (cached != null && cached.isFresh()) {
+            return cached.toResponse();
+        }
+        ApiRequest conditional = request;
+        if (cached != null && cached.getEtag() != null) {
+            conditional = conditional.withHeader("If-None-Match", cached.getEtag());
+        }
+        if (cached != null && cached.getLastModified() != null) {
+            conditional = conditional.withHeader("If-Modified-Since", cached.getLastModified());
+        }
+        long generation = cache.generation();
+        Response response = send(conditional, true);
+        if (response.getStatusCode() == 304 && cached != null && cached.hasValidators()) {
+            response.asByteArray();
+            return cache.revalidated(key, cached, response, generation);
+        }
+        cache.put(key, response, generation);
+        return response;
+    }
+
+
+    // The resolved URL, so each ID and query is cached and coalesced apart
+    private String cacheKey(ApiRequest request) {
+        StringBuilder key = new StringBuilder(baseUri);
+        if (request.hasPathParam()) {
+            key.append(request.getEndpoint().replace("{" + request.getPathParamName() + "}",
+                    String.valueOf(request.getPathParamValue())));
+        } else {
+            key.append(request.getEndpoint());
+        }
+        if (request.hasQueryParam()) {
+            key.append('?').append(request.getQueryParamName()).append('=').append(request.getQueryParamValue());
+        }
+        return key.toString();
+    }
+
+
+    // The first segment of the endpoint - a write to /carts/{id} may change /carts, /carts/{id} and /carts/user/{userId}
+    private static String collection(String endpoint) {
+        int end = endpoint.indexOf('/', 1);
+        return end < 0 ? endpoint : endpoint.substring(0, end);
+    }
+
+
+    /**
+     * Single path every request takes, so cross-cutting concerns such as retries and latency recording live in
+     * one place. With {@code readBody} the body is read before the latency is recorded, so it covers the whole
+     * response; without it the body is left unread for callers that stream it, and the latency ends at the headers.
+     */
+    private Response send(ApiRequest request, boolean readBody) {
+        return retryPolicy().execute(request.getMethod(), () -> attempt(request, readBody));
+    }
+
+
+    /**
+     * The retry policy requests of this service are sent under; the {@code retry.*} configuration by default.
+     */
+    protected RetryPolicy retryPolicy() {
+        return RequestBuilder.policies().retry();
+    }
+
+
+    /**
+     * The response cache GETs of this service are answered from; the {@code cache.*} configuration by default.
+     */
+    protected ResponseCache responseCache() {
+        return RequestBuilder.policies().cache();
+    }
+
+
+    // One attempt; every attempt, retries included, passes the circuit breaker and the rate limit of its route
+    // and is recorded as a request of its own
+    private Response attempt(ApiRequest request, boolean readBody) {
+        RequestPolicies policies = RequestBuilder.policies();
+        CircuitBreaker breaker = policies.circuitBreakers().breaker(baseUri, request.getEndpoint());
+        long permission = breaker != null ? breaker.acquirePermission() : 0;
+        boolean outcomeRecorded = false;
+        try {
+            policies.rateLimiter().acquire(baseUri, request.getEndpoint());
+            RequestSpecification specification = given().spec(requestSpec);
+            if (request.hasPathParam()) {
+                specification.pathParam(request.getPathParamName(), request.getPathParamValue());
+            }
+            if (request.hasQueryParam()) {
+                specification.queryParam(request.getQueryParamName(), request.getQueryParamValue());
+            }
+            if (!request.getHeaders().isEmpty()) {
+                specification.headers(request.getHeaders());
+            }
+            if (request.getBody() instanceof String jsonBody) {
+                specification.body(jsonBody);
+            } else if (request.hasBody()) {
+                specification.body(request.getBody());
+            }
+
+            RequestLog.sending(request);
+            long start = System.nanoTime();
+            Response response;
+            try {
+                response = specification
+                        .when()
+                        .request(request.getMethod(), request.getEndpoint())
+                        .then()
+                        .extract()
+                        .response();
+                if (readBody) {
+                    // A reset while the body arrives is a failed call too
+                    response.asByteArray();
+                }
+            } catch (Exception e) {
+                // Exception, not RuntimeException: RestAssured throws IOExceptions without declaring them
+                long elapsed = System.nanoTime() - start;
+                if (breaker != null) {
+                    breaker.onFailure(permission, elapsed, e.toString());
+                }
+                outcomeRecorded = true;
+                latencies.record(request.getMethod().name(), request.getEndpoint(), elapsed, 0);
+                recordForTest(elapsed, 0);
+                RequestEvent.logFailure(request.getMethod().name(), request.getEndpoint(),
+                        request.getPathParamName(), request.getPathParamValue(), elapsed, e);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (breaker != null) {
+                breaker.onResponse(permission, elapsed, response.getStatusCode());
+            }
+            outcomeRecorded = true;
+            latencies.record(request.getMethod().name(), request.getEndpoint(), elapsed, response.getStatusCode());
+            recordForTest(elapsed, response.getStatusCode());
+            RequestEvent.log(request.getMethod().name(), request.getEndpoint(), request.getPathParamName(),
+                    request.getPathParamValue(), response.getStatusCode(), elapsed, contentLength(response));
+
+            RequestLog.received(response.getStatusCode());
+            return response;
+        } finally {
+            // Not sent after all - rejected by the rate limit, interrupted while waiting for it, or failed while
+            // building the request - so a half-open circuit can probe with another call
+            if (breaker != null && !outcomeRecorded) {
+                breaker.releasePermission(permission);
+            }
+        }
+    }
+
+
+    private static void recordForTest(long elapsedNanos, int statusCode) {
+        TestRequestStats stats = TestRequestStats.current();
+        if (stats != null) {
+            stats.record(elapsedNanos, statusCode);
+        }
+    }
+
+
+    // From the header, so the body is not read just to size it
+    private static long contentLength(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
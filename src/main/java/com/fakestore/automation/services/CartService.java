@@ -2,8 +2,12 @@ package com.fakestore.automation.services;
 
 import com.fakestore.automation.constants.ApiEndpoints;
 import com.fakestore.automation.models.request.CartRequest;
+import com.fakestore.automation.models.response.CartResponse;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 
+import java.util.stream.Stream;
+
 public class CartService extends BaseService {
 
 
@@ -13,6 +17,15 @@ public class CartService extends BaseService {
     }
 
 
+    /**
+     * All carts, bound one by one while the body is still arriving; close the stream if it is not read to the end.
+     */
+    public Stream<CartResponse> streamAllCarts() {
+        logger.info("Streaming all carts");
+        return stream(ApiRequest.of(Method.GET, ApiEndpoints.CARTS), CartResponse.class);
+    }
+
+
     public Response getCartById(int cartId) {
         logger.info("Getting cart by ID: {}", cartId);
         return get(ApiEndpoints.CART_BY_ID, "id", cartId);
@@ -2,8 +2,12 @@ package com.fakestore.automation.services;
 
 import com.fakestore.automation.constants.ApiEndpoints;
 import com.fakestore.automation.models.request.ProductRequest;
+import com.fakestore.automation.models.response.ProductResponse;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 
+import java.util.stream.Stream;
+
 public class ProductService extends BaseService {
 
 
@@ -19,6 +23,21 @@ public class ProductService extends BaseService {
     }
 
 
+    /**
+     * All products, bound one by one while the body is still arriving; close the stream if it is not read to the end.
+     */
+    public Stream<ProductResponse> streamAllProducts() {
+        logger.info("Streaming all products");
+        return stream(ApiRequest.of(Method.GET, ApiEndpoints.PRODUCTS), ProductResponse.class);
+    }
+
+
+    public Stream<ProductResponse> streamAllProductsWithLimit(int limit) {
+        logger.info("Streaming products with limit: {}", limit);
+        return stream(ApiRequest.of(Method.GET, ApiEndpoints.PRODUCTS).withQueryParam("limit", limit), ProductResponse.class);
+    }
+
+
     public Response getProductById(int productId) {
         logger.info("Getting product by ID: {}", productId);
         return get(ApiEndpoints.PRODUCT_BY_ID, "id", productId);
@@ -0,0 +1,48 @@
+package com.fakestore.automation.services;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * The DEBUG lines written for every request sent through {@link BaseService}, under the BaseService logger.
+ * <p>
+ * Allocation-free on the request path: when DEBUG is off, nothing is formatted, boxed or converted with
+ * {@code toString()}; when it is on, the parameters go through Log4j2's reusable, thread-local messages and are
+ * appended straight into the layout's buffer, and the status code is boxed with {@link Unbox}. The one exception
+ * is a request body given as a model object, which is rendered with its {@code toString()} at DEBUG.
+ */
+public final class RequestLog {
+    // Log4j 2.23 defaults to allocating a message per call; the reusable factory keeps one per thread
+    private static final Logger logger = LogManager.getLogger(BaseService.class, ReusableMessageFactory.INSTANCE);
+
+    private RequestLog() {
+    }
+
+
+    public static void sending(ApiRequest request) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        if (request.hasPathParam()) {
+            logger.debug("Sending {} request to: {} with path param: {}={}", request.getMethod(), request.getEndpoint(),
+                    request.getPathParamName(), request.getPathParamValue());
+        } else if (request.hasQueryParam()) {
+            logger.debug("Sending {} request to: {} with query param: {}={}", request.getMethod(), request.getEndpoint(),
+                    request.getQueryParamName(), request.getQueryParamValue());
+        } else {
+            logger.debug("Sending {} request to: {}", request.getMethod(), request.getEndpoint());
+        }
+        if (request.hasBody()) {
+            logger.debug("Request body: {}", request.getBody());
+        }
+    }
+
+
+    public static void received(int statusCode) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Received response with status code: {}", Unbox.box(statusCode));
+        }
+    }
+}
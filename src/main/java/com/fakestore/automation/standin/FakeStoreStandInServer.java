@@ -0,0 +1,468 @@
+package com.fakestore.automation.standin;
+
+import com.fakestore.automation.constants.ApiEndpoints;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded, in-process stand-in for the FakeStore API.
+ * Serves {@code /products}, {@code /products/{id}}, {@code /carts}, {@code /carts/{id}},
+ * {@code /carts/user/{userId}} and {@code /auth/login} from a {@link StandInCatalog}, with the
+ * validation rules the test suite expects from the public API. Requests are handled on virtual
+ * threads, so the server starts in milliseconds and needs no network access.
+ * <p>
+ * It also serves {@code /flaky/{key}?failures=N}, which the public API does not have: the first {@code N}
+ * requests for a key, whatever their method, get a 503, and later ones a 200 with the number of requests the key
+ * has seen, so retry behaviour can be tested against a server that recovers.
+ */
+public class FakeStoreStandInServer {
+    /** Route that fails a given number of times per key before succeeding, see the class comment. */
+    public static final String FLAKY = "/flaky";
+
+    private static final Logger logger = LogManager.getLogger(FakeStoreStandInServer.class);
+    private static final Gson gson = new Gson();
+    private static final String[] PRODUCT_STRING_FIELDS = {"title", "description", "image", "category"};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final StandInCatalog catalog;
+    private final Map<String, AtomicInteger> flakyRequests = new ConcurrentHashMap<>();
+
+    private FakeStoreStandInServer(HttpServer server, ExecutorService executor, StandInCatalog catalog) {
+        this.server = server;
+        this.executor = executor;
+        this.catalog = catalog;
+    }
+
+
+    /**
+     * Starts a stand-in on the loopback interface.
+     *
+     * @param port         port to bind, or 0 for any free port
+     * @param productCount number of products to serve (at least the seeded catalog)
+     */
+    public static FakeStoreStandInServer start(int port, int productCount) {
+        long start = System.nanoTime();
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            FakeStoreStandInServer standIn = new FakeStoreStandInServer(httpServer, executor, new StandInCatalog(productCount));
+
+            httpServer.setExecutor(executor);
+            httpServer.createContext(ApiEndpoints.PRODUCTS, standIn::handleProducts);
+            httpServer.createContext(ApiEndpoints.CARTS, standIn::handleCarts);
+            httpServer.createContext(ApiEndpoints.LOGIN, standIn::handleLogin);
+            httpServer.createContext(FLAKY, standIn::handleFlaky);
+            httpServer.start();
+
+            logger.info("FakeStore stand-in started at {} in {} ms",
+                    standIn.getBaseUri(), (System.nanoTime() - start) / 1_000_000);
+            return standIn;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start FakeStore stand-in on port " + port, e);
+        }
+    }
+
+
+    public String getBaseUri() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("FakeStore stand-in stopped");
+    }
+
+
+    private void handleProducts(HttpExchange exchange) throws IOException {
+        String[] segments = segments(exchange);
+        String method = exchange.getRequestMethod();
+
+        if (segments.length == 1) {
+            switch (method) {
+                case "GET" -> getProducts(exchange);
+                case "POST" -> createProduct(exchange);
+                default -> methodNotAllowed(exchange);
+            }
+        } else if (segments.length == 2) {
+            Integer id = parseId(segments[1]);
+            if (id == null) {
+                error(exchange, 400, "product id should be provided as a number");
+                return;
+            }
+            switch (method) {
+                case "GET" -> sendProduct(exchange, id);
+                case "PUT" -> updateProduct(exchange, id);
+                case "DELETE" -> sendProduct(exchange, id);
+                default -> methodNotAllowed(exchange);
+            }
+        } else {
+            error(exchange, 404, "not found");
+        }
+    }
+
+
+    private void getProducts(HttpExchange exchange) throws IOException {
+        String limit = queryParam(exchange, "limit");
+        int count = catalog.productCount();
+        if (limit != null) {
+            Integer parsedLimit = parseId(limit);
+            if (parsedLimit == null || parsedLimit < 1) {
+                error(exchange, 400, "limit should be a positive number");
+                return;
+            }
+            count = Math.min(parsedLimit, count);
+        }
+
+        // The catalog never changes, so its size identifies the listing
+        long length = catalog.productsJsonLength(count);
+        if (notModified(exchange, "W/\"" + Long.toHexString(length) + "-" + Integer.toHexString(count) + "\"")) {
+            return;
+        }
+        // Streamed product by product with an exact length, so large catalogs are never buffered in full
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, length);
+        try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), 64 * 1024)) {
+            catalog.writeProducts(out, count);
+        }
+    }
+
+
+    private void sendProduct(HttpExchange exchange, int id) throws IOException {
+        if (!catalog.hasProduct(id)) {
+            error(exchange, 404, "product with id " + id + " not found");
+            return;
+        }
+        send(exchange, 200, catalog.productJson(id));
+    }
+
+
+    private void createProduct(HttpExchange exchange) throws IOException {
+        JsonObject product = readValidProduct(exchange);
+        if (product != null) {
+            product.addProperty("id", catalog.productCount() + 1);
+            send(exchange, 201, product.toString());
+        }
+    }
+
+
+    private void updateProduct(HttpExchange exchange, int id) throws IOException {
+        if (!catalog.hasProduct(id)) {
+            error(exchange, 404, "product with id " + id + " not found");
+            return;
+        }
+        JsonObject product = readValidProduct(exchange);
+        if (product != null) {
+            product.addProperty("id", id);
+            send(exchange, 200, product.toString());
+        }
+    }
+
+
+    private JsonObject readValidProduct(HttpExchange exchange) throws IOException {
+        JsonObject product = readJsonObject(exchange);
+        if (product == null) {
+            return null;
+        }
+        for (String field : PRODUCT_STRING_FIELDS) {
+            if (!isString(product.get(field))) {
+                error(exchange, 400, field + " is required and should be a string");
+                return null;
+            }
+        }
+        if (!isNumber(product.get("price"))) {
+            error(exchange, 400, "price is required and should be a number");
+            return null;
+        }
+        return product;
+    }
+
+
+    private void handleCarts(HttpExchange exchange) throws IOException {
+        String[] segments = segments(exchange);
+        String method = exchange.getRequestMethod();
+
+        if (segments.length == 1) {
+            switch (method) {
+                case "GET" -> send(exchange, 200, catalog.allCartsJson());
+                case "POST" -> createCart(exchange);
+                default -> methodNotAllowed(exchange);
+            }
+        } else if (segments.length == 3 && "user".equals(segments[1]) && "GET".equals(method)) {
+            Integer userId = parseId(segments[2]);
+            if (userId == null) {
+                error(exchange, 400, "user id should be provided as a number");
+                return;
+            }
+            send(exchange, 200, catalog.cartsByUserJson(userId));
+        } else if (segments.length == 2) {
+            Integer id = parseId(segments[1]);
+            if (id == null) {
+                error(exchange, 400, "cart id should be provided as a number");
+                return;
+            }
+            switch (method) {
+                case "GET", "DELETE" -> sendCart(exchange, id);
+                case "PUT" -> updateCart(exchange, id);
+                default -> methodNotAllowed(exchange);
+            }
+        } else {
+            error(exchange, 404, "not found");
+        }
+    }
+
+
+    private void sendCart(HttpExchange exchange, int id) throws IOException {
+        if (!catalog.hasCart(id)) {
+            error(exchange, 404, "cart with id " + id + " not found");
+            return;
+        }
+        send(exchange, 200, catalog.cartJson(id));
+    }
+
+
+    private void createCart(HttpExchange exchange) throws IOException {
+        JsonObject cart = readValidCart(exchange);
+        if (cart != null) {
+            cart.addProperty("id", catalog.cartCount() + 1);
+            send(exchange, 201, cart.toString());
+        }
+    }
+
+
+    private void updateCart(HttpExchange exchange, int id) throws IOException {
+        if (!catalog.hasCart(id)) {
+            error(exchange, 404, "cart with id " + id + " not found");
+            return;
+        }
+        JsonObject cart = readValidCart(exchange);
+        if (cart != null) {
+            cart.addProperty("id", id);
+            send(exchange, 200, cart.toString());
+        }
+    }
+
+
+    private JsonObject readValidCart(HttpExchange exchange) throws IOException {
+        JsonObject cart = readJsonObject(exchange);
+        if (cart == null) {
+            return null;
+        }
+        if (!isInteger(cart.get("userId"))) {
+            error(exchange, 400, "userId is required and should be a number");
+            return null;
+        }
+        JsonElement products = cart.get("products");
+        if (products == null || !products.isJsonArray() || products.getAsJsonArray().isEmpty()) {
+            error(exchange, 400, "products is required and should be a non-empty array");
+            return null;
+        }
+        for (JsonElement item : products.getAsJsonArray()) {
+            if (!item.isJsonObject()
+                    || !isInteger(item.getAsJsonObject().get("productId"))
+                    || !isInteger(item.getAsJsonObject().get("quantity"))) {
+                error(exchange, 400, "each product should have a numeric productId and quantity");
+                return null;
+            }
+        }
+        if (!cart.has("date")) {
+            cart.addProperty("date", Instant.now().toString());
+        }
+        return cart;
+    }
+
+
+    private void handleLogin(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            methodNotAllowed(exchange);
+            return;
+        }
+        JsonObject credentials = readJsonObject(exchange);
+        if (credentials == null) {
+            return;
+        }
+        JsonElement username = credentials.get("username");
+        JsonElement password = credentials.get("password");
+        if (!isString(username) || !isString(password)
+                || username.getAsString().isEmpty() || password.getAsString().isEmpty()) {
+            error(exchange, 400, "username and password are not provided in JSON format");
+            return;
+        }
+        if (!catalog.isValidLogin(username.getAsString(), password.getAsString())) {
+            error(exchange, 401, "username or password is incorrect");
+            return;
+        }
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("stand-in:" + username.getAsString()).getBytes(StandardCharsets.UTF_8));
+        JsonObject body = new JsonObject();
+        body.addProperty("token", token);
+        send(exchange, 200, body.toString());
+    }
+
+
+    // 503 for the first ?failures requests of the key in /flaky/{key}, then 200 with the key's request count
+    private void handleFlaky(HttpExchange exchange) throws IOException {
+        String[] segments = segments(exchange);
+        if (segments.length != 2) {
+            error(exchange, 404, "not found");
+            return;
+        }
+        String failuresParam = queryParam(exchange, "failures");
+        Integer failures = failuresParam == null ? Integer.valueOf(0) : parseId(failuresParam);
+        if (failures == null || failures < 0) {
+            error(exchange, 400, "failures should be a non-negative number");
+            return;
+        }
+        exchange.getRequestBody().readAllBytes();
+        int requests = flakyRequests.computeIfAbsent(segments[1], key -> new AtomicInteger()).incrementAndGet();
+        if (requests <= failures) {
+            error(exchange, 503, "failing request " + requests + " of " + failures + " on purpose");
+            return;
+        }
+        JsonObject body = new JsonObject();
+        body.addProperty("key", segments[1]);
+        body.addProperty("requests", requests);
+        send(exchange, 200, body.toString());
+    }
+
+
+    // Reads the request body as a JSON object, answering 400 itself when the body is missing or malformed
+    private JsonObject readJsonObject(HttpExchange exchange) throws IOException {
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (body.isBlank()) {
+            error(exchange, 400, "request body is required");
+            return null;
+        }
+        try {
+            JsonReader reader = new JsonReader(new StringReader(body));
+            reader.setStrictness(Strictness.STRICT);
+            JsonElement element = gson.getAdapter(JsonElement.class).read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT || !element.isJsonObject()) {
+                error(exchange, 400, "request body should be a JSON object");
+                return null;
+            }
+            return element.getAsJsonObject();
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            error(exchange, 400, "malformed JSON in request body");
+            return null;
+        }
+    }
+
+
+    private static boolean isString(JsonElement element) {
+        return element instanceof JsonPrimitive primitive && primitive.isString();
+    }
+
+
+    private static boolean isNumber(JsonElement element) {
+        return element instanceof JsonPrimitive primitive && primitive.isNumber();
+    }
+
+
+    private static boolean isInteger(JsonElement element) {
+        return isNumber(element) && element.getAsDouble() == Math.rint(element.getAsDouble());
+    }
+
+
+    private static Integer parseId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+
+    private static String[] segments(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        String trimmed = path.replaceAll("^/+|/+$", "");
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+    }
+
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return pair.substring(separator + 1);
+            }
+        }
+        return null;
+    }
+
+
+    private static void methodNotAllowed(HttpExchange exchange) throws IOException {
+        error(exchange, 405, "method " + exchange.getRequestMethod() + " is not allowed");
+    }
+
+
+    private static void error(HttpExchange exchange, int status, String message) throws IOException {
+        JsonObject body = new JsonObject();
+        body.addProperty("status", "error");
+        body.addProperty("message", message);
+        send(exchange, status, body.toString());
+    }
+
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        // Weak validators on successful reads, like the real API's
+        if (status == 200 && "GET".equals(exchange.getRequestMethod()) && notModified(exchange,
+                "W/\"" + Integer.toHexString(bytes.length) + "-" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"")) {
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+
+    // Sets the ETag and, if the client already has that version, answers 304 without a body
+    private static boolean notModified(HttpExchange exchange, String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (!etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            return false;
+        }
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return true;
+    }
+}
@@ -0,0 +1,173 @@
+package com.fakestore.automation.standin;
+
+import com.fakestore.automation.models.request.LoginRequest;
+import com.fakestore.automation.utils.JsonReader;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only, in-memory data served by {@link FakeStoreStandInServer}.
+ * Seeded from the {@code testdata/standin} and {@code testdata/auth} classpath resources; like the public API, write
+ * operations are echoed back but never change the catalog, so runs are repeatable.
+ * Each entity is serialized once up front, so reads only copy pre-built JSON; product listings are
+ * streamed from those pieces rather than joined into one string.
+ */
+public class StandInCatalog {
+    private static final Logger logger = LogManager.getLogger(StandInCatalog.class);
+    private static final Gson gson = new Gson();
+
+    private final Map<Integer, JsonObject> carts = new LinkedHashMap<>();
+    private final Map<Integer, String> cartJson = new LinkedHashMap<>();
+    // Product n (IDs are 1..productCount) is at index n - 1, kept as UTF-8 so listings are written without re-encoding
+    private final byte[][] productJson;
+    private final String allCartsJson;
+    private final LoginRequest credentials;
+
+    /**
+     * @param productCount number of products to serve; the seeded catalog is repeated with new IDs
+     *                     when more products are requested than the seed file holds
+     */
+    public StandInCatalog(int productCount) {
+        JsonArray seedProducts = gson.fromJson(JsonReader.readJsonAsString("standin/products.json"), JsonArray.class);
+        JsonArray seedCarts = gson.fromJson(JsonReader.readJsonAsString("standin/carts.json"), JsonArray.class);
+        credentials = JsonReader.readJson("auth/valid-credentials.json", LoginRequest.class);
+
+        int total = Math.max(productCount, seedProducts.size());
+        productJson = new byte[total][];
+        for (int id = 1; id <= total; id++) {
+            JsonObject product = seedProducts.get((id - 1) % seedProducts.size()).getAsJsonObject().deepCopy();
+            product.addProperty("id", id);
+            productJson[id - 1] = product.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        for (JsonElement element : seedCarts) {
+            JsonObject cart = element.getAsJsonObject();
+            carts.put(cart.get("id").getAsInt(), cart);
+            cartJson.put(cart.get("id").getAsInt(), cart.toString());
+        }
+
+        allCartsJson = joinArray(new ArrayList<>(cartJson.values()), cartJson.size());
+
+        logger.info("Stand-in catalog seeded with {} products and {} carts", productJson.length, carts.size());
+    }
+
+
+    /**
+     * The first {@code limit} products as one JSON array string; for small listings and canned bodies.
+     */
+    public String productsJson(int limit) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(productsJsonLength(limit), Integer.MAX_VALUE - 8));
+        try {
+            writeProducts(out, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Byte length of the array written by {@link #writeProducts}, so listings can be sent with a Content-Length.
+     */
+    public long productsJsonLength(int limit) {
+        int count = Math.min(limit, productJson.length);
+        long length = 2 + Math.max(count - 1, 0);
+        for (int i = 0; i < count; i++) {
+            length += productJson[i].length;
+        }
+        return length;
+    }
+
+
+    /**
+     * Writes the first {@code limit} products as a JSON array, one product at a time, so even a listing of
+     * hundreds of thousands of products never exists as a single string.
+     */
+    public void writeProducts(OutputStream out, int limit) throws IOException {
+        int count = Math.min(limit, productJson.length);
+        out.write('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(productJson[i]);
+        }
+        out.write(']');
+    }
+
+
+    public String productJson(int id) {
+        return new String(productJson[id - 1], StandardCharsets.UTF_8);
+    }
+
+
+    public boolean hasProduct(int id) {
+        return id >= 1 && id <= productJson.length;
+    }
+
+
+    public int productCount() {
+        return productJson.length;
+    }
+
+
+    public String allCartsJson() {
+        return allCartsJson;
+    }
+
+
+    public String cartJson(int id) {
+        return cartJson.get(id);
+    }
+
+
+    public boolean hasCart(int id) {
+        return carts.containsKey(id);
+    }
+
+
+    public int cartCount() {
+        return carts.size();
+    }
+
+
+    public String cartsByUserJson(int userId) {
+        List<String> userCarts = new ArrayList<>();
+        carts.forEach((id, cart) -> {
+            if (cart.get("userId").getAsInt() == userId) {
+                userCarts.add(cartJson.get(id));
+            }
+        });
+        return joinArray(userCarts, userCarts.size());
+    }
+
+
+    public boolean isValidLogin(String username, String password) {
+        return credentials.getUsername().equals(username) && credentials.getPassword().equals(password);
+    }
+
+
+    private static String joinArray(List<String> elements, int limit) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < limit; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(elements.get(i));
+        }
+        return json.append(']').toString();
+    }
+}
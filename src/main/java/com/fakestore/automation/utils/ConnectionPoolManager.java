@@ -0,0 +1,128 @@
+package com.fakestore.automation.utils;
+
+import com.fakestore.automation.config.FrameworkConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.net.ssl.SSLContext;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide HTTP connection pool shared by every RestAssured request.
+ * Connections (and their TLS sessions) are kept alive and reused across services and test classes
+ * instead of paying a new TCP and TLS handshake per request. Idle and expired connections are
+ * evicted in the background.
+ * <p>
+ * Pool settings and timeouts come from the {@code pool.*} and {@code http.*} keys of {@link FrameworkConfig}.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 still requires the legacy AbstractHttpClient API
+public final class ConnectionPoolManager {
+    private static final Logger logger = LogManager.getLogger(ConnectionPoolManager.class);
+    private static final ConnectionPoolManager INSTANCE = new ConnectionPoolManager();
+
+    private final FrameworkConfig config = FrameworkConfig.get();
+    private final int maxTotal = config.getInt("pool.maxTotal");
+    private final int maxPerRoute = config.getInt("pool.maxPerRoute");
+    private final long keepAliveSeconds = config.getLong("pool.keepAliveSeconds");
+    private final long idleTimeoutSeconds = config.getLong("pool.idleTimeoutSeconds");
+    private final int tlsSessionCacheSize = config.getInt("pool.tlsSessionCacheSize");
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+    private final ScheduledExecutorService evictor;
+
+    private ConnectionPoolManager() {
+        SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemeRegistry.register(new Scheme("https", 443, new SSLSocketFactory(buildSslContext(),
+                SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER)));
+
+        connectionManager = new PoolingClientConnectionManager(schemeRegistry, keepAliveSeconds, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.setKeepAliveStrategy(keepAliveStrategy());
+        HttpConnectionParams.setConnectionTimeout(httpClient.getParams(), config.getConnectTimeoutMillis());
+        HttpConnectionParams.setSoTimeout(httpClient.getParams(), config.getReadTimeoutMillis());
+
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictStaleConnections, idleTimeoutSeconds, idleTimeoutSeconds, TimeUnit.SECONDS);
+
+        logger.info("Connection pool initialized - maxTotal: {}, maxPerRoute: {}, keepAlive: {}s, idleTimeout: {}s",
+                maxTotal, maxPerRoute, keepAliveSeconds, idleTimeoutSeconds);
+    }
+
+
+    public static ConnectionPoolManager getInstance() {
+        return INSTANCE;
+    }
+
+
+    /**
+     * The pooled client handed to RestAssured; the same instance is returned on every call.
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+
+    public PoolStats getStats() {
+        return connectionManager.getTotalStats();
+    }
+
+
+    public void logStats() {
+        PoolStats stats = getStats();
+        logger.info("Connection pool stats - leased: {}, available: {}, pending: {}, max: {}",
+                stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+
+    private void evictStaleConnections() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS);
+    }
+
+
+    // Honour the server's Keep-Alive header, but never keep a connection longer than configured
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        long maxKeepAliveMillis = TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, maxKeepAliveMillis) : maxKeepAliveMillis;
+        };
+    }
+
+
+    // A dedicated context with a sized client session cache so new connections resume TLS sessions
+    private SSLContext buildSslContext() {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            sslContext.getClientSessionContext().setSessionCacheSize(tlsSessionCacheSize);
+            sslContext.getClientSessionContext().setSessionTimeout((int) TimeUnit.HOURS.toSeconds(1));
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize TLS context for the connection pool", e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.fakestore.automation.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Constraints checked on every element of a JSON array in one pass, e.g. for a product listing:
+ * <pre>
+ * ElementRules rules = new ElementRules()
+ *         .notNull("id", "title", "price", "category")
+ *         .range("price", 0.01, 10_000)
+ *         .range("rating.rate", 0, 5)
+ *         .oneOf("category", ProductCategory.labels());
+ * </pre>
+ * Every rule is applied to every element and all violations are collected rather than stopping at the
+ * first. Range and set rules skip missing or null values, which are the job of {@link #notNull}. Lists of
+ * {@value #PARALLEL_THRESHOLD} elements or more are checked in parallel chunks; violations are still
+ * returned in element order.
+ * <p>
+ * Declare the rules once, e.g. as a constant, and reuse them; the field paths are compiled when declared.
+ */
+public class ElementRules {
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final List<Rule> rules = new ArrayList<>();
+
+
+    public ElementRules notNull(String... paths) {
+        for (String path : paths) {
+            rules.add(new Rule(FieldPath.compile(path), "not null") {
+                @Override
+                boolean accepts(JsonElement value) {
+                    return value != null && !value.isJsonNull();
+                }
+            });
+        }
+        return this;
+    }
+
+
+    /**
+     * A number between {@code min} and {@code max}, both inclusive.
+     */
+    public ElementRules range(String path, double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Empty range for '" + path + "': " + min + " > " + max);
+        }
+        rules.add(new Rule(FieldPath.compile(path), "a number in [" + min + ", " + max + "]") {
+            @Override
+            boolean accepts(JsonElement value) {
+                if (value == null || value.isJsonNull()) {
+                    return true;
+                }
+                if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isNumber()) {
+                    return false;
+                }
+                double number = value.getAsDouble();
+                return number >= min && number <= max;
+            }
+        });
+        return this;
+    }
+
+
+    public ElementRules oneOf(String path, Set<String> allowed) {
+        Set<String> values = Set.copyOf(allowed);
+        rules.add(new Rule(FieldPath.compile(path), "one of " + new TreeSet<>(values)) {
+            @Override
+            boolean accepts(JsonElement value) {
+                if (value == null || value.isJsonNull()) {
+                    return true;
+                }
+                if (!value.isJsonPrimitive()) {
+                    return false;
+                }
+                JsonPrimitive primitive = value.getAsJsonPrimitive();
+                return primitive.isString() && values.contains(primitive.getAsString());
+            }
+        });
+        return this;
+    }
+
+
+    public int size() {
+        return rules.size();
+    }
+
+
+    /**
+     * All violations across the array, in element order; empty when every element passes.
+     */
+    public List<Violation> check(JsonArray elements) {
+        int size = elements.size();
+        if (size < PARALLEL_THRESHOLD) {
+            List<Violation> violations = new ArrayList<>();
+            checkRange(elements, 0, size, violations);
+            return violations;
+        }
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * 4;
+        int chunkSize = (size + chunks - 1) / chunks;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    List<Violation> violations = new ArrayList<>();
+                    checkRange(elements, chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize), violations);
+                    return violations;
+                })
+                .flatMap(List::stream)
+                .toList();
+    }
+
+
+    private void checkRange(JsonArray elements, int from, int to, List<Violation> violations) {
+        for (int i = from; i < to; i++) {
+            JsonElement element = elements.get(i);
+            for (Rule rule : rules) {
+                JsonElement value = rule.path.read(element);
+                if (!rule.accepts(value)) {
+                    violations.add(new Violation(i, rule.path.getPath(), rule.expectation, value));
+                }
+            }
+        }
+    }
+
+
+    private abstract static class Rule {
+        private final FieldPath path;
+        private final String expectation;
+
+        private Rule(FieldPath path, String expectation) {
+            this.path = path;
+            this.expectation = expectation;
+        }
+
+
+        abstract boolean accepts(JsonElement value);
+    }
+}
@@ -0,0 +1,333 @@
+package com.fakestore.automation.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled field path such as {@code rating.rate}, {@code products[0].quantity} or {@code [2].title}.
+ * <p>
+ * The path string is parsed once into a list of steps and cached, so validating a field on every element
+ * of a large list costs one map lookup per step and no parsing. The same path reads from a Gson tree
+ * ({@link #read(JsonElement)}) or from the typed models ({@link #read(Object)}), where each step calls the
+ * model's getter. As in RestAssured's JsonPath, {@code $} is the root, a negative index counts from the end,
+ * and a property applied to an array collects that property from every element.
+ */
+public final class FieldPath {
+    private static final Map<String, FieldPath> compiled = new ConcurrentHashMap<>();
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final String path;
+    private final Step[] steps;
+
+    private FieldPath(String path, Step[] steps) {
+        this.path = path;
+        this.steps = steps;
+    }
+
+
+    /**
+     * The compiled form of a path; compiled on first use and cached for the life of the process.
+     *
+     * @throws IllegalArgumentException if the path is outside the supported dotted/indexed syntax
+     */
+    public static FieldPath compile(String path) {
+        FieldPath fieldPath = compiled.get(path);
+        if (fieldPath == null) {
+            fieldPath = compiled.computeIfAbsent(path, FieldPath::parse);
+        }
+        return fieldPath;
+    }
+
+
+    /**
+     * Whether {@link #compile} accepts the path; GPath expressions such as {@code find { ... }} are not.
+     */
+    public static boolean isSupported(String path) {
+        if (compiled.containsKey(path)) {
+            return true;
+        }
+        try {
+            parse(path);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+
+    public String getPath() {
+        return path;
+    }
+
+
+    /**
+     * The element at this path, or {@code null} when it does not exist.
+     */
+    public JsonElement read(JsonElement root) {
+        JsonElement current = root;
+        for (Step step : steps) {
+            if (current == null || current.isJsonNull()) {
+                return null;
+            }
+            current = step.read(current);
+        }
+        return current;
+    }
+
+
+    /**
+     * The value at this path as a plain Java object: Integer, Long, BigInteger or Double for numbers, then
+     * String, Boolean, List or Map; {@code null} when it does not exist.
+     */
+    public Object readValue(JsonElement root) {
+        return toJava(read(root));
+    }
+
+
+    /**
+     * The value at this path in a model object, e.g. a {@code ProductResponse}, a list of them, or a map.
+     * Properties are read through the public getter, or the field when there is none.
+     */
+    public Object read(Object model) {
+        if (model instanceof JsonElement element) {
+            return read(element);
+        }
+        Object current = model;
+        for (Step step : steps) {
+            if (current == null) {
+                return null;
+            }
+            current = step.read(current);
+        }
+        return current;
+    }
+
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+
+    private static FieldPath parse(String path) {
+        List<Step> steps = new ArrayList<>();
+        int i = path.startsWith("$") ? 1 : 0;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                i++;
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in path: " + path);
+                }
+                String index = path.substring(i + 1, end).trim();
+                try {
+                    steps.add(new Index(Integer.parseInt(index)));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Unsupported index '" + index + "' in path: " + path);
+                }
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    char n = path.charAt(end);
+                    if (!Character.isLetterOrDigit(n) && n != '_') {
+                        throw new IllegalArgumentException("Unsupported character '" + n + "' in path: " + path);
+                    }
+                    end++;
+                }
+                steps.add(new Property(path.substring(i, end)));
+                i = end;
+            }
+        }
+        return new FieldPath(path, steps.toArray(new Step[0]));
+    }
+
+
+    static Object toJava(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+        if (element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            }
+            if (primitive.isString()) {
+                return primitive.getAsString();
+            }
+            BigDecimal number = primitive.getAsBigDecimal();
+            if (number.scale() <= 0) {
+                if (number.compareTo(LONG_MIN) < 0 || number.compareTo(LONG_MAX) > 0) {
+                    return number.toBigInteger();
+                }
+                long value = number.longValue();
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            }
+            return number.doubleValue();
+        }
+        if (element.isJsonArray()) {
+            List<Object> list = new ArrayList<>();
+            for (JsonElement item : element.getAsJsonArray()) {
+                list.add(toJava(item));
+            }
+            return list;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : ((JsonObject) element).entrySet()) {
+            map.put(entry.getKey(), toJava(entry.getValue()));
+        }
+        return map;
+    }
+
+
+    private interface Step {
+        JsonElement read(JsonElement element);
+
+        Object read(Object model);
+    }
+
+
+    private static final class Property implements Step {
+        // Getter or field per model class, resolved on first use of this property on that class
+        private final ClassValue<Accessor> accessors = new ClassValue<>() {
+            @Override
+            protected Accessor computeValue(Class<?> type) {
+                return Accessor.find(type, name);
+            }
+        };
+        private final String name;
+
+        private Property(String name) {
+            this.name = name;
+        }
+
+
+        @Override
+        public JsonElement read(JsonElement element) {
+            if (element.isJsonObject()) {
+                return element.getAsJsonObject().get(name);
+            }
+            if (element.isJsonArray()) {
+                JsonArray array = element.getAsJsonArray();
+                JsonArray collected = new JsonArray(array.size());
+                for (JsonElement item : array) {
+                    JsonElement value = item.isJsonNull() ? null : read(item);
+                    collected.add(value == null ? JsonNull.INSTANCE : value);
+                }
+                return collected;
+            }
+            return null;
+        }
+
+
+        @Override
+        public Object read(Object model) {
+            if (model instanceof Map<?, ?> map) {
+                return map.get(name);
+            }
+            if (model instanceof List<?> list) {
+                List<Object> collected = new ArrayList<>(list.size());
+                for (Object item : list) {
+                    collected.add(item == null ? null : read(item));
+                }
+                return collected;
+            }
+            return accessors.get(model.getClass()).get(model);
+        }
+    }
+
+
+    private static final class Index implements Step {
+        private final int index;
+
+        private Index(int index) {
+            this.index = index;
+        }
+
+
+        @Override
+        public JsonElement read(JsonElement element) {
+            if (!element.isJsonArray()) {
+                return null;
+            }
+            JsonArray array = element.getAsJsonArray();
+            int position = index < 0 ? array.size() + index : index;
+            return position >= 0 && position < array.size() ? array.get(position) : null;
+        }
+
+
+        @Override
+        public Object read(Object model) {
+            if (!(model instanceof List<?> list)) {
+                return null;
+            }
+            int position = index < 0 ? list.size() + index : index;
+            return position >= 0 && position < list.size() ? list.get(position) : null;
+        }
+    }
+
+
+    private record Accessor(Method getter, Field field) {
+        private static final Accessor MISSING = new Accessor(null, null);
+
+        private static Accessor find(Class<?> type, String name) {
+            String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (String getterName : new String[]{"get" + suffix, "is" + suffix}) {
+                try {
+                    Method getter = type.getMethod(getterName);
+                    if (!Modifier.isStatic(getter.getModifiers()) && getter.getReturnType() != void.class) {
+                        getter.trySetAccessible();
+                        return new Accessor(getter, null);
+                    }
+                } catch (NoSuchMethodException e) {
+                    // try the next naming convention
+                }
+            }
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                try {
+                    Field field = c.getDeclaredField(name);
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.trySetAccessible();
+                        return new Accessor(null, field);
+                    }
+                } catch (NoSuchFieldException e) {
+                    // look in the superclass
+                }
+            }
+            return MISSING;
+        }
+
+
+        private Object get(Object model) {
+            if (getter == null && field == null) {
+                return null;
+            }
+            try {
+                return getter != null ? getter.invoke(model) : field.get(model);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read '" + (getter != null ? getter.getName() : field.getName())
+                        + "' of " + model.getClass().getName(), e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Getter " + getter.getName() + " of " + model.getClass().getName()
+                        + " failed", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.fakestore.automation.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily binds the elements of a JSON array read from an input stream, one element at a time.
+ * Only the element being bound is held in memory, and the first element is available as soon as
+ * its bytes arrive, long before a large body has been fully received.
+ * <p>
+ * The stream closes the input once the array is exhausted; callers that stop early must close the
+ * returned stream, e.g. with try-with-resources.
+ */
+public final class JsonArrayStream {
+    private static final Gson gson = new Gson();
+
+    private JsonArrayStream() {
+    }
+
+
+    public static <T> Stream<T> of(InputStream in, Class<T> elementType) {
+        JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ElementSpliterator<T> spliterator = new ElementSpliterator<>(reader, elementType);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+
+    private static final class ElementSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final JsonReader reader;
+        private final Class<T> elementType;
+        private boolean started;
+        private boolean closed;
+
+        private ElementSpliterator(JsonReader reader, Class<T> elementType) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = reader;
+            this.elementType = elementType;
+        }
+
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!started) {
+                    started = true;
+                    if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                        throw new JsonParseException("Expected a JSON array but found " + reader.peek() + " at " + reader.getPath());
+                    }
+                    reader.beginArray();
+                }
+                if (!reader.hasNext()) {
+                    reader.endArray();
+                    close();
+                    return false;
+                }
+                T element = gson.fromJson(reader, elementType);
+                action.accept(element);
+                return true;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to read JSON array element", e);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close JSON array stream", e);
+            }
+        }
+    }
+}
@@ -1,46 +1,117 @@
 package com.fakestore.automation.utils;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Loads test data from the {@code testdata} directory of the classpath: {@code src/test/resources/testdata} for the
+ * tests, and {@code src/main/resources/testdata} for what the packaged jar needs on its own - the stand-in seed
+ * catalog and the login credentials.
+ * <p>
+ * Each file is read once per process and its parsed tree is cached, so data providers that
+ * pick different members of the same file share one read and one parse. Callers always get their own
+ * copy - a fresh object from {@link #readJson} or a deep copy from {@link #readJsonTree} - so the cached
+ * tree itself is never modified.
+ */
 public class JsonReader {
     private static final Logger logger = LogManager.getLogger(JsonReader.class);
     private static final Gson gson = new Gson();
-    private static final String TEST_DATA_PATH = "src/test/resources/testdata/";
+    private static final String TEST_DATA_PATH = "/testdata/";
+
+    private static final Map<String, TestDataFile> cache = new ConcurrentHashMap<>();
 
 
     public static <T> T readJson(String filePath, Class<T> classType) {
-        String fullPath = Paths.get(TEST_DATA_PATH + filePath).toString();
-        logger.info("Reading JSON file from: {}", fullPath);
+        T object = gson.fromJson(load(filePath).tree(), classType);
+        logger.info("Successfully parsed JSON to {}", classType.getSimpleName());
+        return object;
+    }
 
-        try (FileReader reader = new FileReader(fullPath)) {
-            T object = gson.fromJson(reader, classType);
-            logger.info("Successfully parsed JSON to {}", classType.getSimpleName());
-            return object;
-        } catch (IOException e) {
-            logger.error("Failed to read JSON file: {}", fullPath, e);
-            throw new RuntimeException("Failed to read JSON file: " + fullPath, e);
-        }
+
+    /**
+     * Binds one top-level member of a file, e.g. {@code readJson("auth/invalid-credentials.json", "invalidUsername", LoginRequest.class)}.
+     */
+    public static <T> T readJson(String filePath, String memberName, Class<T> classType) {
+        T object = gson.fromJson(member(load(filePath), memberName), classType);
+        logger.info("Successfully parsed '{}' to {}", memberName, classType.getSimpleName());
+        return object;
     }
 
 
     public static String readJsonAsString(String filePath) {
-        String fullPath = Paths.get(TEST_DATA_PATH + filePath).toString();
-        logger.info("Reading JSON file as string from: {}", fullPath);
-
-        try (FileReader reader = new FileReader(fullPath)) {
-            StringBuilder jsonString = new StringBuilder();
-            int character;
-            while ((character = reader.read()) != -1) {
-                jsonString.append((char) character);
+        String content = load(filePath).content();
+        logger.info("Successfully read JSON as string");
+        return content;
+    }
+
+
+    /**
+     * The parsed file; a deep copy, so it may be modified freely.
+     */
+    public static JsonElement readJsonTree(String filePath) {
+        return load(filePath).tree().deepCopy();
+    }
+
+
+    /**
+     * One top-level member of the parsed file; a deep copy, so it may be modified freely.
+     */
+    public static JsonElement readJsonMember(String filePath, String memberName) {
+        return member(load(filePath), memberName).deepCopy();
+    }
+
+
+    /**
+     * One top-level member of the file serialized back to JSON, e.g. an invalid request body to send as-is.
+     */
+    public static String readJsonMemberAsString(String filePath, String memberName) {
+        return member(load(filePath), memberName).toString();
+    }
+
+
+    public static String toJsonString(Object object) {
+        logger.debug("Converting object to JSON string");
+        return gson.toJson(object);
+    }
+
+
+    /**
+     * Forgets every cached file, e.g. after test data was regenerated.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+
+    private static TestDataFile load(String filePath) {
+        String fullPath = TEST_DATA_PATH + filePath;
+        TestDataFile file = cache.get(fullPath);
+        if (file == null) {
+            file = cache.computeIfAbsent(fullPath, JsonReader::read);
+        } else {
+            logger.debug("Using cached JSON file: {}", fullPath);
+        }
+        return file;
+    }
+
+
+    private static TestDataFile read(String fullPath) {
+        logger.info("Reading JSON file from classpath: {}", fullPath);
+        try (InputStream in = JsonReader.class.getResourceAsStream(fullPath)) {
+            if (in == null) {
+                throw new IllegalArgumentException("JSON file not found on the classpath: " + fullPath);
             }
-            logger.info("Successfully read JSON as string");
-            return jsonString.toString();
+            return new TestDataFile(fullPath, new String(in.readAllBytes(), StandardCharsets.UTF_8));
         } catch (IOException e) {
             logger.error("Failed to read JSON file: {}", fullPath, e);
             throw new RuntimeException("Failed to read JSON file: " + fullPath, e);
@@ -48,8 +119,46 @@ public class JsonReader {
     }
 
 
-    public static String toJsonString(Object object) {
-        logger.debug("Converting object to JSON string");
-        return gson.toJson(object);
+    private static JsonElement member(TestDataFile file, String memberName) {
+        JsonElement tree = file.tree();
+        JsonElement member = tree.isJsonObject() ? ((JsonObject) tree).get(memberName) : null;
+        if (member == null) {
+            throw new IllegalArgumentException("Member '" + memberName + "' not found in JSON file: " + file.path());
+        }
+        return member;
+    }
+
+
+    // File content plus its tree, parsed on first use; the tree is only ever handed out as a copy
+    private static final class TestDataFile {
+        private final String path;
+        private final String content;
+        private volatile JsonElement tree;
+
+        private TestDataFile(String path, String content) {
+            this.path = path;
+            this.content = content;
+        }
+
+
+        private String path() {
+            return path;
+        }
+
+
+        private String content() {
+            return content;
+        }
+
+
+        // A racing first use may parse twice; both results are equal, so either may win
+        private JsonElement tree() {
+            JsonElement parsed = tree;
+            if (parsed == null) {
+                parsed = JsonParser.parseString(content);
+                tree = parsed;
+            }
+            return parsed;
+        }
     }
 }
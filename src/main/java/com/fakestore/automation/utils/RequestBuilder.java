@@ -1,7 +1,9 @@
 package com.fakestore.automation.utils;
 
-import com.fakestore.automation.constants.ApiEndpoints;
+import com.fakestore.automation.config.FrameworkConfig;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
@@ -10,12 +12,51 @@ import org.apache.logging.log4j.Logger;
 public class RequestBuilder {
     private static final Logger logger = LogManager.getLogger(RequestBuilder.class);
 
+    // Every specification shares the pooled client, so connections are reused across services
+    private static final RestAssuredConfig config = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .reuseHttpClientInstance()
+                    .httpClientFactory(() -> ConnectionPoolManager.getInstance().getHttpClient()));
+
+    // Settings and policies used by every request sent from now on, replaced together
+    private static volatile RequestPolicies policies = RequestPolicies.from(FrameworkConfig.get());
+
+
+    /**
+     * Injects the configuration to build requests from, e.g. one pointing at a local stand-in, and builds
+     * the request policies from it.
+     */
+    public static void configure(FrameworkConfig newConfig) {
+        logger.info("Using configuration profile '{}' with base URI: {}", newConfig.getProfile(), newConfig.getBaseUri());
+        policies = RequestPolicies.from(newConfig);
+    }
+
+
+    public static FrameworkConfig getConfig() {
+        return policies.getConfig();
+    }
+
+
+    /**
+     * The policies of the current configuration. Read it once per request, so every step of the request
+     * runs under the same policies even if {@link #configure} is called meanwhile.
+     */
+    public static RequestPolicies policies() {
+        return policies;
+    }
+
+
+    public static String getBaseUri() {
+        return getConfig().getBaseUri();
+    }
+
 
     public static RequestSpecification buildRequestSpec() {
         logger.debug("Building default request specification");
 
         return new RequestSpecBuilder()
-                .setBaseUri(ApiEndpoints.BASE_URI)
+                .setBaseUri(getBaseUri())
+                .setConfig(config)
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
                 .addHeader("User-Agent", "FakeStore-Automation-Framework")
@@ -27,7 +68,8 @@ public class RequestBuilder {
         logger.debug("Building request specification with base path: {}", basePath);
 
         return new RequestSpecBuilder()
-                .setBaseUri(ApiEndpoints.BASE_URI)
+                .setBaseUri(getBaseUri())
+                .setConfig(config)
                 .setBasePath(basePath)
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
@@ -40,7 +82,8 @@ public class RequestBuilder {
         logger.debug("Building request specification with authentication");
 
         return new RequestSpecBuilder()
-                .setBaseUri(ApiEndpoints.BASE_URI)
+                .setBaseUri(getBaseUri())
+                .setConfig(config)
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
                 .addHeader("User-Agent", "FakeStore-Automation-Framework")
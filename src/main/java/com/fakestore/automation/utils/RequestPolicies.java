@@ -0,0 +1,88 @@
+package com.fakestore.automation.utils;
+
+import com.fakestore.automation.cache.ResponseCache;
+import com.fakestore.automation.cache.SingleFlight;
+import com.fakestore.automation.capture.BodyCapturePolicy;
+import com.fakestore.automation.config.FrameworkConfig;
+import com.fakestore.automation.resilience.CircuitBreakerPolicy;
+import com.fakestore.automation.resilience.RateLimiter;
+import com.fakestore.automation.resilience.RetryPolicy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The policies every request is sent under - retries, rate limits, circuit breakers, the response cache,
+ * coalescing and body capture - built together from one configuration. {@link RequestBuilder#configure} replaces
+ * them as a whole, so a request never mixes policies of two configurations, and they hold the state that must be
+ * shared by all service instances: token buckets, breakers, cached responses and requests in flight.
+ */
+public final class RequestPolicies {
+    private static final Logger logger = LogManager.getLogger(RequestPolicies.class);
+
+    private final FrameworkConfig config;
+    private final RetryPolicy retry;
+    private final RateLimiter rateLimiter;
+    private final CircuitBreakerPolicy circuitBreakers;
+    private final ResponseCache cache;
+    private final SingleFlight singleFlight;
+    private final BodyCapturePolicy capture;
+
+    private RequestPolicies(FrameworkConfig config) {
+        this.config = config;
+        this.retry = RetryPolicy.from(config);
+        this.rateLimiter = RateLimiter.from(config);
+        this.circuitBreakers = CircuitBreakerPolicy.from(config);
+        this.cache = ResponseCache.from(config);
+        this.singleFlight = SingleFlight.from(config);
+        this.capture = BodyCapturePolicy.from(config);
+    }
+
+
+    public static RequestPolicies from(FrameworkConfig config) {
+        return new RequestPolicies(config);
+    }
+
+
+    public FrameworkConfig getConfig() {
+        return config;
+    }
+
+
+    public RetryPolicy retry() {
+        return retry;
+    }
+
+
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+
+
+    public CircuitBreakerPolicy circuitBreakers() {
+        return circuitBreakers;
+    }
+
+
+    public ResponseCache cache() {
+        return cache;
+    }
+
+
+    public SingleFlight singleFlight() {
+        return singleFlight;
+    }
+
+
+    public BodyCapturePolicy capture() {
+        return capture;
+    }
+
+
+    /**
+     * Logs what every policy did, in one line.
+     */
+    public void logSummary() {
+        logger.info("Request policies - retries: {}; rate limit: {}; circuit breakers: {}; cache: {}; coalescing: {}",
+                retry.summary(), rateLimiter.summary(), circuitBreakers.summary(), cache.summary(), singleFlight.summary());
+    }
+}
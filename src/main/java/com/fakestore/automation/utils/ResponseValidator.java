@@ -1,79 +1,97 @@
 package com.fakestore.automation.utils;
 
+import com.fakestore.automation.capture.BodyCapturePolicy;
+import com.fakestore.automation.capture.CaptureMode;
+import com.fakestore.automation.contracts.Contract;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.testng.Assert;
 
 
+/**
+ * Static checks for single assertions; each delegates to a {@link ValidationSession}. Consecutive calls on the
+ * same response share the session of the calling thread, so a test that checks the body several times reads
+ * and parses it only once. Use {@link #session(Response)} to chain a batch of checks explicitly.
+ */
 public class ResponseValidator {
     private static final Logger logger = LogManager.getLogger(ResponseValidator.class);
 
+    // The last session per thread; a new response replaces it, so at most one body per thread is kept
+    private static final ThreadLocal<ValidationSession> lastSession = new ThreadLocal<>();
+
+
+    public static ValidationSession session(Response response) {
+        ValidationSession session = lastSession.get();
+        if (session == null || session.getResponse() != response) {
+            session = new ValidationSession(response);
+            lastSession.set(session);
+        }
+        return session;
+    }
+
 
     public static void validateStatusCode(Response response, int expectedCode) {
-        int actualCode = response.getStatusCode();
-        logger.info("Validating status code - Expected: {}, Actual: {}", expectedCode, actualCode);
-        Assert.assertEquals(actualCode, expectedCode,
-                "Status code mismatch! Expected: " + expectedCode + ", but got: " + actualCode);
+        session(response).statusCode(expectedCode);
     }
 
 
     public static void validateResponseNotNull(Response response) {
-        logger.info("Validating response body is not null");
-        Assert.assertNotNull(response.getBody(), "Response body is null!");
-        Assert.assertFalse(response.getBody().asString().isEmpty(), "Response body is empty!");
+        session(response).notEmpty();
     }
 
 
     public static void validateResponseTime(Response response, long maxTimeMillis) {
-        long actualTime = response.getTime();
-        logger.info("Validating response time - Expected: < {} ms, Actual: {} ms", maxTimeMillis, actualTime);
-        Assert.assertTrue(actualTime < maxTimeMillis,
-                "Response time exceeded! Expected: < " + maxTimeMillis + " ms, but got: " + actualTime + " ms");
+        session(response).responseTime(maxTimeMillis);
     }
 
 
     public static void validateFieldExists(Response response, String fieldName) {
-        logger.info("Validating field '{}' exists in response", fieldName);
-        Assert.assertNotNull(response.jsonPath().get(fieldName),
-                "Field '" + fieldName + "' does not exist in response!");
+        session(response).fieldExists(fieldName);
     }
 
 
     public static void validateFieldValue(Response response, String fieldName, Object expectedValue) {
-        Object actualValue = response.jsonPath().get(fieldName);
-        logger.info("Validating field '{}' - Expected: {}, Actual: {}", fieldName, expectedValue, actualValue);
-        Assert.assertEquals(actualValue, expectedValue,
-                "Field '" + fieldName + "' value mismatch! Expected: " + expectedValue + ", but got: " + actualValue);
+        session(response).fieldValue(fieldName, expectedValue);
     }
 
 
     public static void validateResponseIsArray(Response response) {
-        logger.info("Validating response is an array");
-        Assert.assertTrue(response.getBody().asString().trim().startsWith("["),
-                "Response is not an array!");
+        session(response).isArray();
     }
 
 
     public static void validateArraySize(Response response, int expectedSize) {
-        int actualSize = response.jsonPath().getList("$").size();
-        logger.info("Validating array size - Expected: {}, Actual: {}", expectedSize, actualSize);
-        Assert.assertEquals(actualSize, expectedSize,
-                "Array size mismatch! Expected: " + expectedSize + ", but got: " + actualSize);
+        session(response).arraySize(expectedSize);
+    }
+
+
+    public static void validateEachElement(Response response, ElementRules rules) {
+        session(response).eachElement(rules);
+    }
+
+
+    public static void validateContract(Response response, Contract contract) {
+        session(response).contract(contract);
     }
 
 
     public static void validateErrorResponse(Response response) {
-        logger.info("Validating error response");
-        String body = response.getBody().asString();
-        Assert.assertTrue(body.contains("error") || body.contains("message") || body.isEmpty(),
-                "Expected error response but got: " + body);
+        session(response).errorResponse();
     }
 
 
+    /**
+     * Logs status and time; at debug level also the body, limited by the {@code capture.*} policy and not
+     * pretty-printed. Failed tests get the pretty-printed bodies in the report instead.
+     */
     public static void logResponse(Response response) {
         logger.info("Response Status Code: {}", response.getStatusCode());
         logger.info("Response Time: {} ms", response.getTime());
-        logger.debug("Response Body: {}", response.getBody().asPrettyString());
+        if (logger.isDebugEnabled()) {
+            BodyCapturePolicy policy = RequestBuilder.policies().capture();
+            if (policy.getMode() != CaptureMode.OFF) {
+                logger.debug("Response Body: {}", policy.capture("response", response));
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,234 @@
+package com.fakestore.automation.utils;
+
+import com.fakestore.automation.contracts.Contract;
+import com.fakestore.automation.contracts.ContractValidator;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A batch of assertions against one response. The body is read once and parsed once, both on first
+ * use, and every later check runs against the cached string or tree:
+ * <pre>
+ * ResponseValidator.session(response)
+ *         .statusCode(200)
+ *         .isArray()
+ *         .arraySize(5)
+ *         .fieldExists("[0].rating.rate");
+ * </pre>
+ * Field paths are compiled once by {@link FieldPath} and evaluated on the cached tree.
+ */
+public class ValidationSession {
+    private static final Logger logger = LogManager.getLogger(ValidationSession.class);
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+
+    private final Response response;
+    private String body;
+    private JsonElement tree;
+
+    public ValidationSession(Response response) {
+        this.response = response;
+    }
+
+
+    public Response getResponse() {
+        return response;
+    }
+
+
+    /**
+     * The body as a string, read from the response on first use.
+     */
+    public String body() {
+        if (body == null) {
+            body = response.getBody().asString();
+        }
+        return body;
+    }
+
+
+    /**
+     * The body parsed into a Gson tree on first use; shared by every check, so it must not be modified.
+     */
+    public JsonElement tree() {
+        if (tree == null) {
+            String json = body();
+            tree = json.isBlank() ? JsonNull.INSTANCE : JsonParser.parseString(json);
+        }
+        return tree;
+    }
+
+
+    public ValidationSession statusCode(int expectedCode) {
+        int actualCode = response.getStatusCode();
+        logger.info("Validating status code - Expected: {}, Actual: {}", expectedCode, actualCode);
+        Assert.assertEquals(actualCode, expectedCode,
+                "Status code mismatch! Expected: " + expectedCode + ", but got: " + actualCode);
+        return this;
+    }
+
+
+    public ValidationSession notEmpty() {
+        logger.info("Validating response body is not null");
+        Assert.assertNotNull(response.getBody(), "Response body is null!");
+        Assert.assertFalse(body().isEmpty(), "Response body is empty!");
+        return this;
+    }
+
+
+    public ValidationSession responseTime(long maxTimeMillis) {
+        long actualTime = response.getTime();
+        logger.info("Validating response time - Expected: < {} ms, Actual: {} ms", maxTimeMillis, actualTime);
+        Assert.assertTrue(actualTime < maxTimeMillis,
+                "Response time exceeded! Expected: < " + maxTimeMillis + " ms, but got: " + actualTime + " ms");
+        return this;
+    }
+
+
+    public ValidationSession isArray() {
+        logger.info("Validating response is an array");
+        Assert.assertEquals(firstNonWhitespace(body()), '[', "Response is not an array!");
+        return this;
+    }
+
+
+    public ValidationSession arraySize(int expectedSize) {
+        JsonElement root = tree();
+        Assert.assertTrue(root.isJsonArray(), "Response is not an array!");
+        int actualSize = root.getAsJsonArray().size();
+        logger.info("Validating array size - Expected: {}, Actual: {}", expectedSize, actualSize);
+        Assert.assertEquals(actualSize, expectedSize,
+                "Array size mismatch! Expected: " + expectedSize + ", but got: " + actualSize);
+        return this;
+    }
+
+
+    public ValidationSession fieldExists(String fieldName) {
+        logger.info("Validating field '{}' exists in response", fieldName);
+        Assert.assertNotNull(value(fieldName), "Field '" + fieldName + "' does not exist in response!");
+        return this;
+    }
+
+
+    /**
+     * Numbers compare by value, so {@code 109.95}, {@code 109.95f} and {@code new BigDecimal("109.95")}
+     * all match the JSON number {@code 109.95}.
+     */
+    public ValidationSession fieldValue(String fieldName, Object expectedValue) {
+        Object actualValue = value(fieldName);
+        logger.info("Validating field '{}' - Expected: {}, Actual: {}", fieldName, expectedValue, actualValue);
+        if (!matches(actualValue, expectedValue)) {
+            Assert.fail("Field '" + fieldName + "' value mismatch! Expected: " + expectedValue + ", but got: " + actualValue);
+        }
+        return this;
+    }
+
+
+    /**
+     * Checks every element of the array body against the rules and fails once, listing the first
+     * {@value #MAX_REPORTED_VIOLATIONS} of all the violations found.
+     */
+    public ValidationSession eachElement(ElementRules rules) {
+        JsonElement root = tree();
+        Assert.assertTrue(root.isJsonArray(), "Response is not an array!");
+        JsonArray elements = root.getAsJsonArray();
+        logger.info("Validating {} rules on each of {} elements", rules.size(), elements.size());
+        List<Violation> violations = rules.check(elements);
+        if (!violations.isEmpty()) {
+            fail(violations.size() + " violation(s) in " + elements.size() + " elements:", violations);
+        }
+        return this;
+    }
+
+
+    /**
+     * Checks the body against a response contract in one streaming pass over the cached body string,
+     * without building a tree.
+     */
+    public ValidationSession contract(Contract contract) {
+        logger.info("Validating response against the {} contract", contract);
+        List<String> violations = ContractValidator.validate(body(), contract);
+        if (!violations.isEmpty()) {
+            fail("Response violates the " + contract + " contract (" + contract.getSchemaFile() + "):", violations);
+        }
+        return this;
+    }
+
+
+    /**
+     * Checks the body is an error response: empty, or matching the {@link Contract#ERROR} contract.
+     */
+    public ValidationSession errorResponse() {
+        logger.info("Validating error response");
+        if (body().isEmpty()) {
+            return this;
+        }
+        return contract(Contract.ERROR);
+    }
+
+
+    /**
+     * The value at a field path as a plain Java object, or {@code null} when it does not exist. Paths outside
+     * the dotted/indexed subset, e.g. GPath filters, are handed to RestAssured's JsonPath instead.
+     */
+    public Object value(String path) {
+        if (!FieldPath.isSupported(path)) {
+            return response.jsonPath().get(path);
+        }
+        return FieldPath.compile(path).readValue(tree());
+    }
+
+
+    /**
+     * The element at a dotted/indexed path, or {@code null} when the path does not exist.
+     */
+    public JsonElement resolve(String path) {
+        return FieldPath.compile(path).read(tree());
+    }
+
+
+    private static boolean matches(Object actualValue, Object expectedValue) {
+        if (expectedValue == null || actualValue == null) {
+            return expectedValue == actualValue;
+        }
+        if (expectedValue instanceof Number expected && actualValue instanceof Number actual) {
+            return new BigDecimal(actual.toString()).compareTo(new BigDecimal(expected.toString())) == 0;
+        }
+        if (expectedValue instanceof Character) {
+            return expectedValue.toString().equals(actualValue);
+        }
+        return expectedValue.equals(actualValue);
+    }
+
+
+    // Lists the first MAX_REPORTED_VIOLATIONS violations; only those have their messages built
+    private static void fail(String summary, List<?> violations) {
+        StringBuilder message = new StringBuilder(summary);
+        violations.stream()
+                .limit(MAX_REPORTED_VIOLATIONS)
+                .forEach(violation -> message.append("\n  ").append(violation));
+        if (violations.size() > MAX_REPORTED_VIOLATIONS) {
+            message.append("\n  ... and ").append(violations.size() - MAX_REPORTED_VIOLATIONS).append(" more");
+        }
+        Assert.fail(message.toString());
+    }
+
+
+    private static char firstNonWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c;
+            }
+        }
+        return '\0';
+    }
+}
@@ -0,0 +1,20 @@
+package com.fakestore.automation.utils;
+
+import com.google.gson.JsonElement;
+
+/**
+ * One failed rule on one list element. The message is only built when asked for, so a check that finds
+ * thousands of violations costs no string building until they are reported.
+ */
+public record Violation(int index, String path, String expectation, JsonElement actual) {
+
+    public String message() {
+        return "[" + index + "]." + path + " should be " + expectation + " but was " + actual;
+    }
+
+
+    @Override
+    public String toString() {
+        return message();
+    }
+}
@@ -0,0 +1,40 @@
+package com.fakestore.automation.benchmarks;
+
+import com.fakestore.automation.standin.StandInCatalog;
+import com.fakestore.automation.utils.JsonReader;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Response bodies of a given size for the benchmarks, built from the same seed data the stand-in serves,
+ * so field shapes and string lengths match what the real API returns.
+ */
+final class CannedBodies {
+    private static final Gson gson = new Gson();
+
+    private CannedBodies() {
+    }
+
+
+    static String productsJson(int count) {
+        return new StandInCatalog(count).productsJson(count);
+    }
+
+
+    static String productJson() {
+        return new StandInCatalog(1).productJson(1);
+    }
+
+
+    static String cartsJson(int count) {
+        JsonArray seed = gson.fromJson(JsonReader.readJsonAsString("standin/carts.json"), JsonArray.class);
+        JsonArray carts = new JsonArray(count);
+        for (int id = 1; id <= count; id++) {
+            JsonObject cart = seed.get((id - 1) % seed.size()).getAsJsonObject().deepCopy();
+            cart.addProperty("id", id);
+            carts.add(cart);
+        }
+        return carts.toString();
+    }
+}
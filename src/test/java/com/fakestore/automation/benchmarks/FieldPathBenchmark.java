@@ -0,0 +1,76 @@
+package com.fakestore.automation.benchmarks;
+
+import com.fakestore.automation.models.response.ProductResponse;
+import com.fakestore.automation.utils.FieldPath;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading one field from every element of a catalog of {@code size} products, as per-element validation does,
+ * from the parsed tree and from the bound models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class FieldPathBenchmark {
+    private static final FieldPath RATING_RATE = FieldPath.compile("rating.rate");
+
+    @Param({"20", "1000", "100000"})
+    public int size;
+
+    private JsonArray productsTree;
+    private List<ProductResponse> products;
+
+    @Setup
+    public void setUp() {
+        String json = CannedBodies.productsJson(size);
+        productsTree = JsonParser.parseString(json).getAsJsonArray();
+        products = Arrays.asList(new Gson().fromJson(json, ProductResponse[].class));
+    }
+
+
+    @Benchmark
+    public void readFromTree(Blackhole blackhole) {
+        for (JsonElement product : productsTree) {
+            blackhole.consume(RATING_RATE.read(product));
+        }
+    }
+
+
+    @Benchmark
+    public void readFromModels(Blackhole blackhole) {
+        for (ProductResponse product : products) {
+            blackhole.consume(RATING_RATE.read(product));
+        }
+    }
+
+
+    // Looks the path up in the compile cache on every element, as ResponseValidator's string-path checks do
+    @Benchmark
+    public void compileAndReadFromTree(Blackhole blackhole) {
+        for (JsonElement product : productsTree) {
+            blackhole.consume(FieldPath.compile("rating.rate").read(product));
+        }
+    }
+}
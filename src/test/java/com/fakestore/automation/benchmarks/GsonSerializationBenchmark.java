@@ -0,0 +1,109 @@
+package com.fakestore.automation.benchmarks;
+
+import com.fakestore.automation.models.request.CartRequest;
+import com.fakestore.automation.models.request.ProductRequest;
+import com.fakestore.automation.models.response.CartResponse;
+import com.fakestore.automation.models.response.ProductResponse;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gson round trips of the request and response models, for list sizes from a default catalog page up to 100k entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class GsonSerializationBenchmark {
+    private static final Type PRODUCT_REQUEST_LIST = new TypeToken<List<ProductRequest>>() { }.getType();
+    private static final Type PRODUCT_RESPONSE_LIST = new TypeToken<List<ProductResponse>>() { }.getType();
+    private static final Type CART_REQUEST_LIST = new TypeToken<List<CartRequest>>() { }.getType();
+    private static final Type CART_RESPONSE_LIST = new TypeToken<List<CartResponse>>() { }.getType();
+
+    @Param({"20", "1000", "100000"})
+    public int size;
+
+    private final Gson gson = new Gson();
+
+    private String productsJson;
+    private String cartsJson;
+    private List<ProductRequest> productRequests;
+    private List<ProductResponse> productResponses;
+    private List<CartRequest> cartRequests;
+    private List<CartResponse> cartResponses;
+
+    @Setup
+    public void setUp() {
+        productsJson = CannedBodies.productsJson(size);
+        cartsJson = CannedBodies.cartsJson(size);
+        productRequests = gson.fromJson(productsJson, PRODUCT_REQUEST_LIST);
+        productResponses = gson.fromJson(productsJson, PRODUCT_RESPONSE_LIST);
+        cartRequests = gson.fromJson(cartsJson, CART_REQUEST_LIST);
+        cartResponses = gson.fromJson(cartsJson, CART_RESPONSE_LIST);
+    }
+
+
+    @Benchmark
+    public String serializeProductRequests() {
+        return gson.toJson(productRequests, PRODUCT_REQUEST_LIST);
+    }
+
+
+    @Benchmark
+    public String serializeProductResponses() {
+        return gson.toJson(productResponses, PRODUCT_RESPONSE_LIST);
+    }
+
+
+    @Benchmark
+    public List<ProductResponse> deserializeProductResponses() {
+        return gson.fromJson(productsJson, PRODUCT_RESPONSE_LIST);
+    }
+
+
+    @Benchmark
+    public List<ProductRequest> deserializeProductRequests() {
+        return gson.fromJson(productsJson, PRODUCT_REQUEST_LIST);
+    }
+
+
+    @Benchmark
+    public String serializeCartRequests() {
+        return gson.toJson(cartRequests, CART_REQUEST_LIST);
+    }
+
+
+    @Benchmark
+    public String serializeCartResponses() {
+        return gson.toJson(cartResponses, CART_RESPONSE_LIST);
+    }
+
+
+    @Benchmark
+    public List<CartResponse> deserializeCartResponses() {
+        return gson.fromJson(cartsJson, CART_RESPONSE_LIST);
+    }
+
+
+    @Benchmark
+    public List<CartRequest> deserializeCartRequests() {
+        return gson.fromJson(cartsJson, CART_REQUEST_LIST);
+    }
+}
@@ -0,0 +1,67 @@
+package com.fakestore.automation.benchmarks;
+
+import com.fakestore.automation.models.request.CartRequest;
+import com.fakestore.automation.models.request.LoginRequest;
+import com.fakestore.automation.models.request.ProductRequest;
+import com.fakestore.automation.utils.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test data loading as the data providers do it: one JsonReader call per row, from the files under testdata.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class JsonReaderBenchmark {
+
+
+    @Benchmark
+    public ProductRequest readProductRequest() {
+        return JsonReader.readJson("products/valid-product.json", ProductRequest.class);
+    }
+
+
+    @Benchmark
+    public CartRequest readCartRequest() {
+        return JsonReader.readJson("carts/valid-cart.json", CartRequest.class);
+    }
+
+
+    @Benchmark
+    public LoginRequest readLoginRequest() {
+        return JsonReader.readJson("auth/valid-credentials.json", LoginRequest.class);
+    }
+
+
+    // How the negative-case data providers load their rows
+    @Benchmark
+    public LoginRequest readInvalidCredentialsMember() {
+        return JsonReader.readJson("auth/invalid-credentials.json", "invalidUsername", LoginRequest.class);
+    }
+
+
+    @Benchmark
+    public String readInvalidProductAsString() {
+        return JsonReader.readJsonAsString("products/invalid-product.json");
+    }
+
+
+    // The largest file in testdata, the 20-product stand-in seed
+    @Benchmark
+    public String readCatalogSeedAsString() {
+        return JsonReader.readJsonAsString("standin/products.json");
+    }
+}
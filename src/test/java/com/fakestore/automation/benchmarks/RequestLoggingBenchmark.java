@@ -0,0 +1,96 @@
+package com.fakestore.automation.benchmarks;
+
+import com.fakestore.automation.metrics.RequestEvent;
+import com.fakestore.automation.services.ApiRequest;
+import com.fakestore.automation.services.RequestLog;
+import io.restassured.http.Method;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.OutputStreamAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The logging BaseService does around every request - the DEBUG request and response lines and the
+ * {@link RequestEvent} - with the loggers off and on. Run with {@code -prof gc}: {@code gc.alloc.rate.norm}
+ * should be about 0 B/op in both cases.
+ * <p>
+ * When enabled, events are formatted with the file layout but written to a discarding stream, so the numbers
+ * cover formatting and encoding without filling the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class RequestLoggingBenchmark {
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%t] %-5level %logger{36} - %msg%n";
+
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private final ApiRequest getProduct = ApiRequest.of(Method.GET, "/products/{id}").withPathParam("id", 3);
+    private final ApiRequest postCart = ApiRequest.of(Method.POST, "/carts")
+            .withBody("{\"userId\":1,\"date\":\"2020-02-03\",\"products\":[{\"productId\":5,\"quantity\":1}]}");
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Configuration configuration = context.getConfiguration();
+        Appender discard = OutputStreamAppender.newBuilder()
+                .setName("Discard")
+                .setTarget(OutputStream.nullOutputStream())
+                .setLayout(PatternLayout.newBuilder().withConfiguration(configuration).withPattern(PATTERN).build())
+                .build();
+        discard.start();
+        configuration.addAppender(discard);
+        route(configuration, "com.fakestore.automation", discard, enabled ? Level.DEBUG : Level.INFO);
+        route(configuration, "requests", discard, enabled ? Level.INFO : Level.OFF);
+        context.updateLoggers();
+    }
+
+
+    @Benchmark
+    public void getWithPathParam() {
+        RequestLog.sending(getProduct);
+        RequestEvent.log("GET", getProduct.getEndpoint(), getProduct.getPathParamName(), getProduct.getPathParamValue(),
+                200, 4_217_000, 412);
+        RequestLog.received(200);
+    }
+
+
+    @Benchmark
+    public void postWithJsonBody() {
+        RequestLog.sending(postCart);
+        RequestEvent.log("POST", postCart.getEndpoint(), null, null, 201, 12_500_000, 130);
+        RequestLog.received(201);
+    }
+
+
+    private static void route(Configuration configuration, String loggerName, Appender appender, Level level) {
+        LoggerConfig logger = configuration.getLoggerConfig(loggerName);
+        for (String name : logger.getAppenders().keySet()) {
+            logger.removeAppender(name);
+        }
+        logger.addAppender(appender, null, null);
+        logger.setLevel(level);
+    }
+}
@@ -0,0 +1,152 @@
+package com.fakestore.automation.benchmarks;
+
+import com.fakestore.automation.contracts.Contract;
+import com.fakestore.automation.contracts.ContractValidator;
+import com.fakestore.automation.enums.ProductCategory;
+import com.fakestore.automation.utils.ElementRules;
+import com.fakestore.automation.utils.ResponseValidator;
+import com.fakestore.automation.utils.ValidationSession;
+import com.fakestore.automation.utils.Violation;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseValidator checks against canned RestAssured responses, the same calls the tests make after every request.
+ * Array checks run on catalog bodies of {@code size} products, single-object checks on one product.
+ * <p>
+ * The static checks reuse the session cached for the same response, so after the first call they measure the
+ * warm path; the {@code session*} benchmarks start a new session each time and include the one read and parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class ResponseValidatorBenchmark {
+    private static final ElementRules PRODUCT_RULES = new ElementRules()
+            .notNull("id", "title", "price", "description", "category", "image")
+            .range("price", 0.01, 10_000)
+            .range("rating.rate", 0, 5)
+            .oneOf("category", ProductCategory.labels());
+
+    @Param({"20", "1000", "100000"})
+    public int size;
+
+    private Response productsResponse;
+    private Response productResponse;
+    private Response errorResponse;
+    private JsonArray productsTree;
+    private String productsBody;
+
+    @Setup
+    public void setUp() {
+        productsResponse = response(200, CannedBodies.productsJson(size));
+        productResponse = response(200, CannedBodies.productJson());
+        errorResponse = response(400, "{\"status\":\"error\",\"message\":\"Invalid product id\"}");
+        productsBody = CannedBodies.productsJson(size);
+        productsTree = JsonParser.parseString(productsBody).getAsJsonArray();
+    }
+
+
+    private static Response response(int statusCode, String body) {
+        return new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setContentType("application/json; charset=utf-8")
+                .setBody(body)
+                .build();
+    }
+
+
+    @Benchmark
+    public void validateStatusCode() {
+        ResponseValidator.validateStatusCode(productsResponse, 200);
+    }
+
+
+    @Benchmark
+    public void validateResponseNotNull() {
+        ResponseValidator.validateResponseNotNull(productsResponse);
+    }
+
+
+    @Benchmark
+    public void validateResponseIsArray() {
+        ResponseValidator.validateResponseIsArray(productsResponse);
+    }
+
+
+    @Benchmark
+    public void validateArraySize() {
+        ResponseValidator.validateArraySize(productsResponse, size);
+    }
+
+
+    @Benchmark
+    public void validateFieldExists() {
+        ResponseValidator.validateFieldExists(productResponse, "rating.rate");
+    }
+
+
+    @Benchmark
+    public void validateFieldValue() {
+        ResponseValidator.validateFieldValue(productResponse, "id", 1);
+    }
+
+
+    @Benchmark
+    public void validateErrorResponse() {
+        ResponseValidator.validateErrorResponse(errorResponse);
+    }
+
+
+    // The rule pass alone, on an already parsed catalog
+    @Benchmark
+    public List<Violation> checkElementRules() {
+        return PRODUCT_RULES.check(productsTree);
+    }
+
+
+    // The streaming contract pass over the raw body, as the load runner does with load.validateContracts
+    @Benchmark
+    public List<String> validateProductListContract() {
+        return ContractValidator.validate(productsBody, Contract.PRODUCT_LIST);
+    }
+
+
+    @Benchmark
+    public ValidationSession sessionListChecks() {
+        return new ValidationSession(productsResponse)
+                .statusCode(200)
+                .notEmpty()
+                .isArray()
+                .arraySize(size)
+                .fieldExists("[0].rating.rate");
+    }
+
+
+    @Benchmark
+    public ValidationSession sessionObjectChecks() {
+        return new ValidationSession(productResponse)
+                .statusCode(200)
+                .notEmpty()
+                .fieldExists("rating.rate")
+                .fieldValue("id", 1);
+    }
+}
@@ -2,12 +2,9 @@ package com.fakestore.automation.dataproviders;
 
 import com.fakestore.automation.models.request.LoginRequest;
 import com.fakestore.automation.utils.JsonReader;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import org.testng.annotations.DataProvider;
 
 public class AuthDataProvider {
-    private static final Gson gson = new Gson();
 
 
     @DataProvider(name = "validCredentials")
@@ -21,12 +18,7 @@ public class AuthDataProvider {
 
     @DataProvider(name = "invalidUsername")
     public Object[][] getInvalidUsername() {
-        String jsonString = JsonReader.readJsonAsString("auth/invalid-credentials.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        LoginRequest credentials = gson.fromJson(
-                jsonObject.get("invalidUsername"),
-                LoginRequest.class
-        );
+        LoginRequest credentials = JsonReader.readJson("auth/invalid-credentials.json", "invalidUsername", LoginRequest.class);
 
         return new Object[][]{
                 {credentials}
@@ -36,12 +28,7 @@ public class AuthDataProvider {
 
     @DataProvider(name = "invalidPassword")
     public Object[][] getInvalidPassword() {
-        String jsonString = JsonReader.readJsonAsString("auth/invalid-credentials.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        LoginRequest credentials = gson.fromJson(
-                jsonObject.get("invalidPassword"),
-                LoginRequest.class
-        );
+        LoginRequest credentials = JsonReader.readJson("auth/invalid-credentials.json", "invalidPassword", LoginRequest.class);
 
         return new Object[][]{
                 {credentials}
@@ -51,12 +38,7 @@ public class AuthDataProvider {
 
     @DataProvider(name = "emptyCredentials")
     public Object[][] getEmptyCredentials() {
-        String jsonString = JsonReader.readJsonAsString("auth/invalid-credentials.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        LoginRequest credentials = gson.fromJson(
-                jsonObject.get("emptyCredentials"),
-                LoginRequest.class
-        );
+        LoginRequest credentials = JsonReader.readJson("auth/invalid-credentials.json", "emptyCredentials", LoginRequest.class);
 
         return new Object[][]{
                 {credentials}
@@ -66,9 +48,7 @@ public class AuthDataProvider {
 
     @DataProvider(name = "malformedJson")
     public Object[][] getMalformedJson() {
-        String jsonString = JsonReader.readJsonAsString("auth/invalid-credentials.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String malformedJson = jsonObject.get("malformedJson").getAsString();
+        String malformedJson = JsonReader.readJsonMember("auth/invalid-credentials.json", "malformedJson").getAsString();
 
         return new Object[][]{
                 {malformedJson}
@@ -78,12 +58,7 @@ public class AuthDataProvider {
 
     @DataProvider(name = "sqlInjectionCredentials")
     public Object[][] getSqlInjectionCredentials() {
-        String jsonString = JsonReader.readJsonAsString("auth/invalid-credentials.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        LoginRequest credentials = gson.fromJson(
-                jsonObject.get("sqlInjection"),
-                LoginRequest.class
-        );
+        LoginRequest credentials = JsonReader.readJson("auth/invalid-credentials.json", "sqlInjection", LoginRequest.class);
 
         return new Object[][]{
                 {credentials}
@@ -93,12 +68,7 @@ public class AuthDataProvider {
 
     @DataProvider(name = "failedLoginCredentials")
     public Object[][] getFailedLoginCredentials() {
-        String jsonString = JsonReader.readJsonAsString("auth/invalid-credentials.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        LoginRequest credentials = gson.fromJson(
-                jsonObject.get("failedLogin"),
-                LoginRequest.class
-        );
+        LoginRequest credentials = JsonReader.readJson("auth/invalid-credentials.json", "failedLogin", LoginRequest.class);
 
         return new Object[][]{
                 {credentials}
@@ -108,23 +78,11 @@ public class AuthDataProvider {
 
     @DataProvider(name = "multipleInvalidCredentials")
     public Object[][] getMultipleInvalidCredentials() {
-        String jsonString = JsonReader.readJsonAsString("auth/invalid-credentials.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-
-        LoginRequest invalidUsername = gson.fromJson(
-                jsonObject.get("invalidUsername"),
-                LoginRequest.class
-        );
-
-        LoginRequest invalidPassword = gson.fromJson(
-                jsonObject.get("invalidPassword"),
-                LoginRequest.class
-        );
-
-        LoginRequest emptyCredentials = gson.fromJson(
-                jsonObject.get("emptyCredentials"),
-                LoginRequest.class
-        );
+        LoginRequest invalidUsername = JsonReader.readJson("auth/invalid-credentials.json", "invalidUsername", LoginRequest.class);
+
+        LoginRequest invalidPassword = JsonReader.readJson("auth/invalid-credentials.json", "invalidPassword", LoginRequest.class);
+
+        LoginRequest emptyCredentials = JsonReader.readJson("auth/invalid-credentials.json", "emptyCredentials", LoginRequest.class);
 
         return new Object[][]{
                 {invalidUsername, "Invalid username"},
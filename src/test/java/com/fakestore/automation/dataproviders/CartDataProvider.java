@@ -2,12 +2,9 @@ package com.fakestore.automation.dataproviders;
 
 import com.fakestore.automation.models.request.CartRequest;
 import com.fakestore.automation.utils.JsonReader;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import org.testng.annotations.DataProvider;
 
 public class CartDataProvider {
-    private static final Gson gson = new Gson();
 
 
     @DataProvider(name = "validCartData")
@@ -21,9 +18,7 @@ public class CartDataProvider {
 
     @DataProvider(name = "invalidCartMissingFields")
     public Object[][] getInvalidCartMissingFields() {
-        String jsonString = JsonReader.readJsonAsString("carts/invalid-cart.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String missingFieldsJson = jsonObject.get("missingFields").toString();
+        String missingFieldsJson = JsonReader.readJsonMemberAsString("carts/invalid-cart.json", "missingFields");
 
         return new Object[][]{
                 {missingFieldsJson}
@@ -33,9 +28,7 @@ public class CartDataProvider {
 
     @DataProvider(name = "invalidCartEmptyProducts")
     public Object[][] getInvalidCartEmptyProducts() {
-        String jsonString = JsonReader.readJsonAsString("carts/invalid-cart.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String emptyProductsJson = jsonObject.get("emptyProducts").toString();
+        String emptyProductsJson = JsonReader.readJsonMemberAsString("carts/invalid-cart.json", "emptyProducts");
 
         return new Object[][]{
                 {emptyProductsJson}
@@ -45,9 +38,7 @@ public class CartDataProvider {
 
     @DataProvider(name = "invalidCartStructure")
     public Object[][] getInvalidCartStructure() {
-        String jsonString = JsonReader.readJsonAsString("carts/invalid-cart.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String invalidStructureJson = jsonObject.get("invalidStructure").toString();
+        String invalidStructureJson = JsonReader.readJsonMemberAsString("carts/invalid-cart.json", "invalidStructure");
 
         return new Object[][]{
                 {invalidStructureJson}
@@ -57,12 +48,7 @@ public class CartDataProvider {
 
     @DataProvider(name = "validCartUpdateData")
     public Object[][] getValidCartUpdateData() {
-        String jsonString = JsonReader.readJsonAsString("carts/update-cart.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        CartRequest updateCart = gson.fromJson(
-                jsonObject.get("validUpdate"),
-                CartRequest.class
-        );
+        CartRequest updateCart = JsonReader.readJson("carts/update-cart.json", "validUpdate", CartRequest.class);
 
         return new Object[][]{
                 {updateCart}
@@ -72,9 +58,7 @@ public class CartDataProvider {
 
     @DataProvider(name = "invalidCartUpdateData")
     public Object[][] getInvalidCartUpdateData() {
-        String jsonString = JsonReader.readJsonAsString("carts/update-cart.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String invalidUpdateJson = jsonObject.get("invalidUpdate").toString();
+        String invalidUpdateJson = JsonReader.readJsonMemberAsString("carts/update-cart.json", "invalidUpdate");
 
         return new Object[][]{
                 {invalidUpdateJson}
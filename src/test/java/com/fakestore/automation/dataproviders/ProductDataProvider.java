@@ -2,12 +2,9 @@ package com.fakestore.automation.dataproviders;
 
 import com.fakestore.automation.models.request.ProductRequest;
 import com.fakestore.automation.utils.JsonReader;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import org.testng.annotations.DataProvider;
 
 public class ProductDataProvider {
-    private static final Gson gson = new Gson();
 
 
     @DataProvider(name = "validProductData")
@@ -21,9 +18,7 @@ public class ProductDataProvider {
 
     @DataProvider(name = "invalidProductMissingFields")
     public Object[][] getInvalidProductMissingFields() {
-        String jsonString = JsonReader.readJsonAsString("products/invalid-product.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String missingFieldsJson = jsonObject.get("missingFields").toString();
+        String missingFieldsJson = JsonReader.readJsonMemberAsString("products/invalid-product.json", "missingFields");
 
         return new Object[][]{
                 {missingFieldsJson}
@@ -33,9 +28,7 @@ public class ProductDataProvider {
 
     @DataProvider(name = "invalidProductPriceFormat")
     public Object[][] getInvalidProductPriceFormat() {
-        String jsonString = JsonReader.readJsonAsString("products/invalid-product.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String invalidPriceJson = jsonObject.get("invalidPrice").toString();
+        String invalidPriceJson = JsonReader.readJsonMemberAsString("products/invalid-product.json", "invalidPrice");
 
         return new Object[][]{
                 {invalidPriceJson}
@@ -45,12 +38,7 @@ public class ProductDataProvider {
 
     @DataProvider(name = "validProductUpdateData")
     public Object[][] getValidProductUpdateData() {
-        String jsonString = JsonReader.readJsonAsString("products/update-product.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        ProductRequest updateProduct = gson.fromJson(
-                jsonObject.get("validUpdate"),
-                ProductRequest.class
-        );
+        ProductRequest updateProduct = JsonReader.readJson("products/update-product.json", "validUpdate", ProductRequest.class);
 
         return new Object[][]{
                 {updateProduct}
@@ -60,9 +48,7 @@ public class ProductDataProvider {
 
     @DataProvider(name = "invalidProductUpdateData")
     public Object[][] getInvalidProductUpdateData() {
-        String jsonString = JsonReader.readJsonAsString("products/update-product.json");
-        JsonObject jsonObject = gson.fromJson(jsonString, JsonObject.class);
-        String invalidUpdateJson = jsonObject.get("invalidUpdate").toString();
+        String invalidUpdateJson = JsonReader.readJsonMemberAsString("products/update-product.json", "invalidUpdate");
 
         return new Object[][]{
                 {invalidUpdateJson}
@@ -0,0 +1,37 @@
+package com.fakestore.automation.listeners;
+
+import com.fakestore.automation.config.FrameworkConfig;
+
+import java.util.Locale;
+
+/**
+ * How the suite schedules test methods and data-provider rows.
+ * Selected with the {@code execution.mode} setting of {@link FrameworkConfig} (the {@code virtual-threads}
+ * Maven profile sets it for you); the concurrency cap of the virtual mode is {@code execution.concurrency}.
+ */
+public enum ExecutionMode {
+    SEQUENTIAL,
+    VIRTUAL;
+
+    public static final String MODE_PROPERTY = "execution.mode";
+    public static final String CONCURRENCY_PROPERTY = "execution.concurrency";
+
+
+    public static ExecutionMode current() {
+        String mode = FrameworkConfig.get().getString(MODE_PROPERTY);
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown execution mode '" + mode + "', expected one of: sequential, virtual", e);
+        }
+    }
+
+
+    public static int concurrency() {
+        int concurrency = FrameworkConfig.get().getInt(CONCURRENCY_PROPERTY);
+        if (concurrency < 1) {
+            throw new IllegalArgumentException(CONCURRENCY_PROPERTY + " must be at least 1, but was: " + concurrency);
+        }
+        return concurrency;
+    }
+}
@@ -0,0 +1,71 @@
+package com.fakestore.automation.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.annotations.IDataProviderAnnotation;
+import org.testng.internal.ObjectBag;
+import org.testng.xml.XmlSuite;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Switches the suite to parallel execution when {@link ExecutionMode#VIRTUAL} is selected.
+ * The {@code <test>} blocks run concurrently, test methods run with {@code parallel="methods"} and
+ * every data provider is made parallel, each capped at {@link ExecutionMode#concurrency()}. The threads themselves come from
+ * {@link VirtualThreadExecutorFactory}; data-provider rows share one suite-wide virtual-thread executor,
+ * registered where TestNG looks up its shared data-provider pool.
+ */
+public class ExecutionModeListener implements IAlterSuiteListener, IAnnotationTransformer, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(ExecutionModeListener.class);
+
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (ExecutionMode.current() != ExecutionMode.VIRTUAL) {
+            return;
+        }
+
+        int concurrency = ExecutionMode.concurrency();
+        for (XmlSuite suite : suites) {
+            logger.info("Running suite '{}' on virtual threads with concurrency cap: {}", suite.getName(), concurrency);
+            // <test> blocks run side by side, and methods run in parallel inside each of them
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(Math.max(1, suite.getTests().size()));
+            suite.setDataProviderThreadCount(concurrency);
+            suite.setShareThreadPoolForDataProviders(true);
+            suite.getTests().forEach(test -> {
+                test.setParallel(XmlSuite.ParallelMode.METHODS);
+                test.setThreadCount(concurrency);
+            });
+        }
+    }
+
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ExecutionMode.current() != ExecutionMode.VIRTUAL) {
+            return;
+        }
+
+        // TestNG builds its shared data-provider pool lazily from the suite's object bag; seeding the bag
+        // first makes rows run on virtual threads. The bag shuts the executor down when the suite ends.
+        ObjectBag.getInstance(suite).createIfRequired(ExecutorService.class,
+                () -> VirtualThreadExecutorFactory.newVirtualThreadExecutor(
+                        "testng-dataprovider-virtual-", ExecutionMode.concurrency(), new LinkedBlockingQueue<>()));
+    }
+
+
+    @Override
+    public void transform(IDataProviderAnnotation annotation, Method method) {
+        if (ExecutionMode.current() == ExecutionMode.VIRTUAL) {
+            annotation.setParallel(true);
+        }
+    }
+}
@@ -1,29 +1,76 @@
 package com.fakestore.automation.listeners;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.fakestore.automation.capture.BodyCapture;
+import com.fakestore.automation.capture.ResponseCaptures;
+import com.fakestore.automation.utils.RequestBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.testng.ITestContext;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-
-public class ExtentReportListener implements ITestListener {
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports test results to an Extent HTML report. The callbacks run on the test threads and only enqueue
+ * {@link ReportEvent}s; a {@link ReportWriter} builds the report on its own thread and writes it every
+ * {@code report.flushIntervalMillis}, and once more when the suite finishes.
+ * <p>
+ * There is one report per run: it is opened when the suite starts, not per {@code <test>}, so every
+ * {@code <test>} block and every parallel method lands in the same file. The listener is declared both in
+ * testng.xml and with {@code @Listeners} on the test classes; the report is shared by all instances and
+ * closed when the last started suite finishes.
+ */
+public class ExtentReportListener implements ISuiteListener, ITestListener {
     private static final Logger logger = LogManager.getLogger(ExtentReportListener.class);
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static final AtomicLong testIds = new AtomicLong();
+    private static final Object lifecycle = new Object();
+    private static volatile ReportWriter writer;
+    private static final ThreadLocal<Long> currentTestId = new ThreadLocal<>();
+    // The target is only known once BaseTest has configured RequestBuilder, which runs after the suite started
+    private static final AtomicBoolean targetReported = new AtomicBoolean();
+    private static int openSuites;
     private static String reportPath;
 
 
     @Override
-    public void onStart(ITestContext context) {
+    public void onStart(ISuite suite) {
+        synchronized (lifecycle) {
+            if (openSuites++ == 0) {
+                writer = open(suite.getName());
+            }
+        }
+    }
+
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (lifecycle) {
+            if (--openSuites > 0 || writer == null) {
+                return;
+            }
+            logger.info("Finishing test execution and generating report...");
+            writer.close();
+            writer = null;
+        }
+        logger.info("========================================");
+        logger.info("Extent Report generated successfully!");
+        logger.info("Report Location: {}", new File(reportPath).getAbsolutePath());
+        logger.info("========================================");
+    }
+
+
+    private static ReportWriter open(String suiteName) {
         logger.info("Initializing Extent Reports...");
 
         // Create reports directory if it doesn't exist
@@ -48,122 +95,112 @@ public class ExtentReportListener implements ITestListener {
         sparkReporter.config().setEncoding("UTF-8");
 
         // Initialize ExtentReports
-        extent = new ExtentReports();
+        ExtentReports extent = new ExtentReports();
         extent.attachReporter(sparkReporter);
 
         // Add system information
         extent.setSystemInfo("Application", "FakeStore API");
-        extent.setSystemInfo("Base URL", "https://fakestoreapi.com");
-        extent.setSystemInfo("Environment", "Test");
-        extent.setSystemInfo("Test Suite", context.getName());
+        extent.setSystemInfo("Test Suite", suiteName);
         extent.setSystemInfo("OS", System.getProperty("os.name"));
         extent.setSystemInfo("Java Version", System.getProperty("java.version"));
         extent.setSystemInfo("User", System.getProperty("user.name"));
 
         logger.info("Extent Reports initialized successfully");
         logger.info("Report will be generated at: {}", reportPath);
+        targetReported.set(false);
+        return new ReportWriter(extent, RequestBuilder.getConfig().getLong("report.flushIntervalMillis"));
     }
 
 
     @Override
     public void onTestStart(ITestResult result) {
         String testName = result.getMethod().getMethodName();
-        String testDescription = result.getMethod().getDescription();
-
         logger.info("Starting test: {}", testName);
 
-        // Create test in report
-        ExtentTest test = extent.createTest(testName);
-
-        // Add description if available
-        if (testDescription != null && !testDescription.isEmpty()) {
-            test.info("Description: " + testDescription);
+        ReportWriter writer = ExtentReportListener.writer;
+        if (writer == null) {
+            logger.warn("Extent Reports not initialized, not reporting: {}", testName);
+            return;
         }
+        if (targetReported.compareAndSet(false, true)) {
+            writer.submit(new ReportEvent.SystemInfo("Base URL", RequestBuilder.getBaseUri()));
+            writer.submit(new ReportEvent.SystemInfo("Environment", RequestBuilder.getConfig().getProfile()));
+        }
+        long testId = testIds.incrementAndGet();
+        currentTestId.set(testId);
+        writer.submit(new ReportEvent.TestStarted(testId, testName, result.getMethod().getDescription(),
+                result.getTestClass().getName()));
 
-        // Add test class information
-        test.info("Test Class: " + result.getTestClass().getName());
-
-        // Set test to thread local
-        extentTest.set(test);
+        // Keep this test's response bodies in case it fails
+        ResponseCaptures.begin();
     }
 
 
     @Override
     public void onTestSuccess(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        logger.info("Test PASSED: {}", testName);
-
-        ExtentTest test = extentTest.get();
-        test.log(Status.PASS, "Test Passed: " + testName);
-        test.pass("Execution Time: " + (result.getEndMillis() - result.getStartMillis()) + " ms");
+        logger.info("Test PASSED: {}", result.getMethod().getMethodName());
+        finish(result, Status.PASS, null, List.of());
     }
 
 
     @Override
     public void onTestFailure(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        logger.error("Test FAILED: {}", testName);
-
-        ExtentTest test = extentTest.get();
-        test.log(Status.FAIL, "Test Failed: " + testName);
-        test.fail("Failure Reason: " + result.getThrowable().getMessage());
-        test.fail("Execution Time: " + (result.getEndMillis() - result.getStartMillis()) + " ms");
-
-        // Add stack trace
-        test.fail("Stack Trace: " + getStackTrace(result.getThrowable()));
+        logger.error("Test FAILED: {}", result.getMethod().getMethodName());
+        // The captures are rendered on the writer thread
+        finish(result, Status.FAIL, result.getThrowable(), ResponseCaptures.get());
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        logger.warn("Test SKIPPED: {}", testName);
-
-        ExtentTest test = extentTest.get();
-        test.log(Status.SKIP, "Test Skipped: " + testName);
-
-        if (result.getThrowable() != null) {
-            test.skip("Skip Reason: " + result.getThrowable().getMessage());
-        }
+        logger.warn("Test SKIPPED: {}", result.getMethod().getMethodName());
+        finish(result, Status.SKIP, result.getThrowable(), List.of());
     }
 
 
     @Override
     public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        logger.warn("Test FAILED but within success percentage: {}", testName);
-
-        ExtentTest test = extentTest.get();
-        test.log(Status.WARNING, "Test Failed but within success percentage: " + testName);
+        logger.warn("Test FAILED but within success percentage: {}", result.getMethod().getMethodName());
+        finish(result, Status.WARNING, null, List.of());
     }
 
 
-    @Override
-    public void onFinish(ITestContext context) {
-        logger.info("Finishing test execution and generating report...");
-
-        if (extent != null) {
-            extent.flush();
-            logger.info("========================================");
-            logger.info("Extent Report generated successfully!");
-            logger.info("Report Location: {}", new File(reportPath).getAbsolutePath());
-            logger.info("========================================");
+    private void finish(ITestResult result, Status status, Throwable failure, List<BodyCapture> captures) {
+        Long testId = currentTestId.get();
+        ReportWriter writer = ExtentReportListener.writer;
+        if (testId != null && writer != null) {
+            writer.submit(new ReportEvent.TestFinished(testId, status, result.getMethod().getMethodName(),
+                    result.getEndMillis() - result.getStartMillis(), failure, captures));
         }
+        currentTestId.remove();
+        ResponseCaptures.end();
     }
 
 
-    private String getStackTrace(Throwable throwable) {
-        StringBuilder stackTrace = new StringBuilder();
-        stackTrace.append(throwable.toString()).append("\n");
-
-        for (StackTraceElement element : throwable.getStackTrace()) {
-            stackTrace.append("\tat ").append(element.toString()).append("\n");
+    /**
+     * Adds a line to the report of the test running on this thread.
+     */
+    public static void log(Status status, String details) {
+        Long testId = currentTestId.get();
+        ReportWriter writer = ExtentReportListener.writer;
+        if (writer == null || testId == null) {
+            logger.warn("No test running on this thread, not reported: {}", details);
+            return;
         }
-
-        return stackTrace.toString();
+        writer.submit(new ReportEvent.TestLogged(testId, status, details));
     }
 
 
-    public static ExtentTest getTest() {
-        return extentTest.get();
+    /**
+     * Adds a table outside of any test, e.g. suite-wide metrics from an @AfterSuite method, and re-writes the report.
+     * The first row is the header.
+     */
+    public static void addSummaryTable(String title, String[][] rows) {
+        ReportWriter writer = ExtentReportListener.writer;
+        if (writer == null) {
+            logger.warn("Extent Reports not initialized, skipping summary: {}", title);
+            return;
+        }
+        writer.submit(new ReportEvent.SummaryTable(title, rows));
+        writer.flush();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.fakestore.automation.listeners;
+
+import com.aventstack.extentreports.Status;
+import com.fakestore.automation.capture.BodyCapture;
+
+import java.util.List;
+
+/**
+ * What test threads hand to the {@link ReportWriter}: plain values only, so enqueuing is cheap. Everything that
+ * costs something to build - Extent nodes, stack traces, pretty-printed bodies - is built on the writer thread.
+ * Tests are identified by an id handed out in {@link ExtentReportListener#onTestStart}.
+ */
+sealed interface ReportEvent {
+
+    record TestStarted(long testId, String name, String description, String className) implements ReportEvent {
+    }
+
+
+    record TestLogged(long testId, Status status, String details) implements ReportEvent {
+    }
+
+
+    /**
+     * @param failure    the failure or skip cause, or {@code null}
+     * @param captures   response bodies to attach, for failed tests
+     */
+    record TestFinished(long testId, Status status, String name, long durationMillis, Throwable failure,
+                        List<BodyCapture> captures) implements ReportEvent {
+    }
+
+
+    /**
+     * A line of the report's system information.
+     */
+    record SystemInfo(String name, String value) implements ReportEvent {
+    }
+
+
+    /**
+     * A table outside of any test; the first row is the header.
+     */
+    record SummaryTable(String title, String[][] rows) implements ReportEvent {
+    }
+}
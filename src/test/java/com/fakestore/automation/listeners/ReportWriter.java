@@ -0,0 +1,201 @@
+package com.fakestore.automation.listeners;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fakestore.automation.capture.BodyCapture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Builds the Extent report on one background thread from the {@link ReportEvent}s test threads submit.
+ * <p>
+ * Test threads only append to a lock-free queue, so they never contend on Extent's internals; the writer drains
+ * the queue, creates and updates the tests, and writes the report to disk every {@code flushIntervalMillis}
+ * while there are changes, so a long run leaves a readable report behind even if it never finishes.
+ * {@link #flush()} waits until everything submitted so far is written.
+ */
+final class ReportWriter {
+    private static final Logger logger = LogManager.getLogger(ReportWriter.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final ExtentReports extent;
+    private final long flushIntervalNanos;
+    private final Queue<ReportEvent> events = new ConcurrentLinkedQueue<>();
+    private final Queue<CompletableFuture<Void>> flushRequests = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    // Writer thread only
+    private final Map<Long, ExtentTest> tests = new HashMap<>();
+    private boolean dirty;
+
+    ReportWriter(ExtentReports extent, long flushIntervalMillis) {
+        this.extent = extent;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.thread = Thread.ofPlatform().name("extent-report-writer").daemon().start(this::run);
+    }
+
+
+    void submit(ReportEvent event) {
+        if (closed) {
+            logger.warn("Report writer closed, dropping: {}", event);
+            return;
+        }
+        events.offer(event);
+    }
+
+
+    /**
+     * Writes the report with every event submitted before this call.
+     */
+    void flush() {
+        if (closed) {
+            return;
+        }
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        flushRequests.offer(written);
+        LockSupport.unpark(thread);
+        written.join();
+    }
+
+
+    /**
+     * Writes what is left and stops the writer thread.
+     */
+    void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    private void run() {
+        long lastFlush = System.nanoTime();
+        while (true) {
+            // Taken before draining: events submitted ahead of a flush request are in the queue by now
+            List<CompletableFuture<Void>> waiting = new ArrayList<>();
+            for (CompletableFuture<Void> request; (request = flushRequests.poll()) != null; ) {
+                waiting.add(request);
+            }
+            boolean stopping = closed;
+
+            for (ReportEvent event; (event = events.poll()) != null; ) {
+                apply(event);
+            }
+            if (!waiting.isEmpty() || (stopping && dirty) || (dirty && System.nanoTime() - lastFlush >= flushIntervalNanos)) {
+                writeReport();
+                lastFlush = System.nanoTime();
+            }
+            waiting.forEach(request -> request.complete(null));
+
+            if (stopping) {
+                // Flush requests racing with close() would otherwise wait forever
+                flushRequests.forEach(request -> request.complete(null));
+                return;
+            }
+            if (events.isEmpty() && flushRequests.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+
+    private void apply(ReportEvent event) {
+        try {
+            switch (event) {
+                case ReportEvent.TestStarted started -> {
+                    ExtentTest test = extent.createTest(started.name());
+                    if (started.description() != null && !started.description().isEmpty()) {
+                        test.info("Description: " + started.description());
+                    }
+                    test.info("Test Class: " + started.className());
+                    tests.put(started.testId(), test);
+                }
+                case ReportEvent.TestLogged logged -> {
+                    ExtentTest test = tests.get(logged.testId());
+                    if (test != null) {
+                        test.log(logged.status(), logged.details());
+                    }
+                }
+                case ReportEvent.TestFinished finished -> finish(finished);
+                case ReportEvent.SystemInfo info -> extent.setSystemInfo(info.name(), info.value());
+                case ReportEvent.SummaryTable table ->
+                        extent.createTest(table.title()).info(MarkupHelper.createTable(table.rows(), "table-sm"));
+            }
+            dirty = true;
+        } catch (RuntimeException e) {
+            logger.error("Failed to add {} to the report", event, e);
+        }
+    }
+
+
+    private void finish(ReportEvent.TestFinished finished) {
+        // The test is complete, so the writer no longer needs to find it
+        ExtentTest test = tests.remove(finished.testId());
+        if (test == null) {
+            return;
+        }
+        String duration = "Execution Time: " + finished.durationMillis() + " ms";
+        Throwable failure = finished.failure();
+        switch (finished.status()) {
+            case PASS -> {
+                test.pass("Test Passed: " + finished.name());
+                test.pass(duration);
+            }
+            case FAIL -> {
+                test.fail("Test Failed: " + finished.name());
+                test.fail("Failure Reason: " + (failure == null ? null : failure.getMessage()));
+                test.fail(duration);
+                if (failure != null) {
+                    test.fail("Stack Trace: " + stackTrace(failure));
+                }
+                // Pretty-printed only now that they are needed
+                for (BodyCapture capture : finished.captures()) {
+                    test.info(MarkupHelper.createCodeBlock(capture.render()));
+                }
+            }
+            case SKIP -> {
+                test.skip("Test Skipped: " + finished.name());
+                if (failure != null) {
+                    test.skip("Skip Reason: " + failure.getMessage());
+                }
+            }
+            default -> test.log(finished.status(), "Test Failed but within success percentage: " + finished.name());
+        }
+    }
+
+
+    private void writeReport() {
+        try {
+            extent.flush();
+            dirty = false;
+        } catch (RuntimeException e) {
+            logger.error("Failed to write the Extent report", e);
+        }
+    }
+
+
+    private static String stackTrace(Throwable throwable) {
+        StringBuilder stackTrace = new StringBuilder();
+        stackTrace.append(throwable).append("\n");
+        for (StackTraceElement element : throwable.getStackTrace()) {
+            stackTrace.append("\tat ").append(element).append("\n");
+        }
+        return stackTrace.toString();
+    }
+}
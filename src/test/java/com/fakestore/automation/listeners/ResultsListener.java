@@ -0,0 +1,167 @@
+package com.fakestore.automation.listeners;
+
+import com.fakestore.automation.metrics.TestRequestStats;
+import com.fakestore.automation.utils.RequestBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Appends one JSON line per test invocation to {@code results.file}, as each test finishes:
+ * <pre>
+ * {"run":"1f0c...","ts":1760731200123,"suite":"Surefire suite","testClass":"...ProductGetTests","method":"testGetProductById",
+ *  "params":[3],"status":"PASS","durationMs":41,"requests":1,"errors":0,"latencyMeanMs":38.912,"latencyMaxMs":38.912}
+ * </pre>
+ * Data-provider rows are separate records with their {@code params}. Requests are those the test sent through the
+ * services ({@link TestRequestStats}). The file is appended to across runs, so every record carries the id of its
+ * run; a blank {@code results.file} turns the listener off. Registered for every suite through
+ * {@code META-INF/services/org.testng.ITestNGListener}.
+ */
+public class ResultsListener implements ISuiteListener, ITestListener {
+    private static final Logger logger = LogManager.getLogger(ResultsListener.class);
+    private static final Gson gson = new Gson();
+
+    private final String run = UUID.randomUUID().toString();
+    private int openSuites;
+    private Writer out;
+    private Path file;
+
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        if (openSuites++ > 0) {
+            return;
+        }
+        String location = RequestBuilder.getConfig().getString("results.file");
+        if (location.isBlank()) {
+            return;
+        }
+        file = Path.of(location);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            logger.info("Writing test results of run {} to: {}", run, file.toAbsolutePath());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open results file: " + file, e);
+        }
+    }
+
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (--openSuites > 0 || out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close results file: {}", file, e);
+        }
+        out = null;
+    }
+
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        TestRequestStats.begin();
+    }
+
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        write(result, "PASS");
+    }
+
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        write(result, "FAIL");
+    }
+
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        write(result, "SKIP");
+    }
+
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        write(result, "WARNING");
+    }
+
+
+    private void write(ITestResult result, String status) {
+        TestRequestStats stats = TestRequestStats.end();
+        if (out == null) {
+            return;
+        }
+        // Built on the test thread; only the append is serialized
+        String line = gson.toJson(new ResultRecord(run, result.getEndMillis(),
+                result.getTestContext().getSuite().getName(), result.getTestClass().getName(),
+                result.getMethod().getMethodName(), params(result.getParameters()), status,
+                result.getEndMillis() - result.getStartMillis(),
+                stats == null ? 0 : stats.getRequests(), stats == null ? 0 : stats.getErrors(),
+                stats == null ? 0 : stats.getCoalesced(),
+                stats == null || stats.getRequests() == 0 ? null : round(stats.getMeanMillis()),
+                stats == null || stats.getRequests() == 0 ? null : round(stats.getMaxMillis())));
+        synchronized (this) {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.write(line);
+                out.write('\n');
+                // A line at a time, so an interrupted run still leaves complete records
+                out.flush();
+            } catch (IOException e) {
+                logger.warn("Failed to write result of {} to: {}", result.getMethod().getMethodName(), file, e);
+            }
+        }
+    }
+
+
+    // Parameters as JSON where Gson can serialize them, otherwise as their string form
+    private static JsonArray params(Object[] parameters) {
+        JsonArray params = new JsonArray(parameters.length);
+        for (Object parameter : parameters) {
+            JsonElement value;
+            try {
+                value = gson.toJsonTree(parameter);
+            } catch (RuntimeException e) {
+                value = new JsonPrimitive(String.valueOf(parameter));
+            }
+            params.add(value);
+        }
+        return params;
+    }
+
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+
+
+    private record ResultRecord(String run, long ts, String suite, String testClass, String method, JsonArray params,
+                                String status, long durationMs, int requests, int errors, int coalesced,
+                                Double latencyMeanMs, Double latencyMaxMs) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.fakestore.automation.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pool factory used by TestNG for parallel test methods and data-provider rows.
+ * In {@link ExecutionMode#VIRTUAL} mode every worker is a virtual thread, so an I/O-bound test
+ * blocked on the network does not hold an OS thread; the pool size only acts as the concurrency cap.
+ * In any other mode TestNG's own platform threads are used unchanged.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorServiceFactory {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadExecutorFactory.class);
+
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        if (ExecutionMode.current() != ExecutionMode.VIRTUAL) {
+            return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+        }
+
+        int cap = Math.max(1, Math.min(maximumPoolSize, ExecutionMode.concurrency()));
+        logger.info("Creating virtual-thread executor for test methods with concurrency cap: {}", cap);
+        return newVirtualThreadExecutor("testng-virtual-", cap, workQueue);
+    }
+
+
+    /**
+     * Executor whose workers are virtual threads, running at most {@code cap} tasks at a time.
+     */
+    public static ExecutorService newVirtualThreadExecutor(String namePrefix, int cap, BlockingQueue<Runnable> workQueue) {
+        ThreadFactory virtualThreadFactory = Thread.ofVirtual().name(namePrefix, 0).factory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(cap, cap, 1, TimeUnit.SECONDS, workQueue, virtualThreadFactory);
+        // Virtual threads are cheap, there is no point keeping idle ones around
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
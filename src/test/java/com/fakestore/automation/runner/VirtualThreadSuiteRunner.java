@@ -0,0 +1,38 @@
+package com.fakestore.automation.runner;
+
+import com.fakestore.automation.listeners.ExecutionMode;
+import com.fakestore.automation.listeners.VirtualThreadExecutorFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestNG;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs TestNG suites with {@link ExecutionMode#VIRTUAL} scheduling.
+ * Surefire cannot hand a thread pool factory to TestNG, so the virtual-thread mode is launched
+ * through this runner instead (see the {@code virtual-threads} Maven profile).
+ */
+public class VirtualThreadSuiteRunner {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadSuiteRunner.class);
+    private static final String DEFAULT_SUITE = "src/test/resources/suites/testng.xml";
+
+
+    public static void main(String[] args) {
+        // Must happen before the configuration is first resolved
+        System.setProperty(ExecutionMode.MODE_PROPERTY, ExecutionMode.VIRTUAL.name());
+        List<String> suites = args.length > 0 ? Arrays.asList(args) : List.of(DEFAULT_SUITE);
+        logger.info("Running suites {} on virtual threads, concurrency cap: {}", suites, ExecutionMode.concurrency());
+
+        TestNG testng = new TestNG();
+        testng.setTestSuites(suites);
+        testng.setExecutorServiceFactory(new VirtualThreadExecutorFactory());
+        testng.setOutputDirectory("target/testng-virtual");
+        testng.run();
+
+        if (testng.getStatus() != 0) {
+            throw new IllegalStateException("Test suite finished with failures, TestNG status: " + testng.getStatus());
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package com.fakestore.automation.tests;
 
+import com.fakestore.automation.config.FrameworkConfig;
+import com.fakestore.automation.contracts.Contract;
+import com.fakestore.automation.listeners.ExtentReportListener;
+import com.fakestore.automation.metrics.LatencyRegistry;
+import com.fakestore.automation.metrics.LatencySummary;
+import com.fakestore.automation.services.AsyncAuthService;
+import com.fakestore.automation.services.AsyncCartService;
+import com.fakestore.automation.services.AsyncProductService;
 import com.fakestore.automation.services.AuthService;
 import com.fakestore.automation.services.CartService;
 import com.fakestore.automation.services.ProductService;
+import com.fakestore.automation.standin.FakeStoreStandInServer;
+import com.fakestore.automation.utils.ConnectionPoolManager;
+import com.fakestore.automation.utils.RequestBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeSuite;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
 public class BaseTest {
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
 
@@ -17,13 +32,32 @@ public class BaseTest {
     protected CartService cartService;
     protected AuthService authService;
 
+    // Non-blocking service instances - for fan-out style tests
+    protected AsyncProductService asyncProductService;
+    protected AsyncCartService asyncCartService;
+    protected AsyncAuthService asyncAuthService;
+
+    // Local stand-in for the API, started when the profile enables it (-Denv=local)
+    private static FakeStoreStandInServer standInServer;
+
 
     @BeforeSuite
     public void suiteSetup() {
         logger.info("========================================");
         logger.info("Starting FakeStore API Test Automation");
         logger.info("========================================");
-        logger.info("Base URI: https://fakestoreapi.com");
+
+        FrameworkConfig config = FrameworkConfig.get();
+        if (config.isStandInEnabled()) {
+            standInServer = FakeStoreStandInServer.start(config.getStandInPort(), config.getStandInProducts());
+            config = config.withBaseUri(standInServer.getBaseUri());
+        }
+        RequestBuilder.configure(config);
+
+        logger.info("Environment: {}", config.getProfile());
+        logger.info("Base URI: {}", config.getBaseUri());
+        // Touching the contracts compiles their schemas now rather than inside the first test
+        logger.info("Response contracts: {}", Arrays.toString(Contract.values()));
         logger.info("Test Suite Started at: {}", java.time.LocalDateTime.now());
     }
 
@@ -36,6 +70,9 @@ public class BaseTest {
         productService = new ProductService();
         cartService = new CartService();
         authService = new AuthService();
+        asyncProductService = new AsyncProductService();
+        asyncCartService = new AsyncCartService();
+        asyncAuthService = new AsyncAuthService();
 
         logger.info("Service instances initialized successfully");
     }
@@ -43,6 +80,13 @@ public class BaseTest {
 
     @AfterSuite
     public void suiteTearDown() {
+        reportLatencies();
+        RequestBuilder.policies().logSummary();
+        ConnectionPoolManager.getInstance().logStats();
+        if (standInServer != null) {
+            standInServer.stop();
+            standInServer = null;
+        }
         logger.info("========================================");
         logger.info("Test Suite Completed at: {}", java.time.LocalDateTime.now());
         logger.info("FakeStore API Test Automation Finished");
@@ -50,6 +94,32 @@ public class BaseTest {
     }
 
 
+    // Tail latencies per route for the whole suite: log, JSON file and a table in the Extent report
+    private void reportLatencies() {
+        LatencyRegistry registry = LatencyRegistry.getInstance();
+        List<LatencySummary> summaries = registry.snapshot();
+        if (summaries.isEmpty()) {
+            return;
+        }
+        registry.logSummary();
+        registry.writeJson(Path.of(FrameworkConfig.get().getString("metrics.latencyReportFile")));
+
+        String[][] rows = new String[summaries.size() + 1][];
+        rows[0] = new String[]{"Route", "Count", "Errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "Max ms"};
+        for (int i = 0; i < summaries.size(); i++) {
+            LatencySummary summary = summaries.get(i);
+            rows[i + 1] = new String[]{summary.route(), String.valueOf(summary.count()), String.valueOf(summary.errors()),
+                    format(summary.p50()), format(summary.p90()), format(summary.p99()), format(summary.p999()), format(summary.max())};
+        }
+        ExtentReportListener.addSummaryTable("Latency Percentiles", rows);
+    }
+
+
+    private static String format(double millis) {
+        return String.format("%.2f", millis);
+    }
+
+
     protected void logTestInfo(String testName, String testDescription) {
         logger.info("-------------------------------------------");
         logger.info("Test: {}", testName);
@@ -1,5 +1,6 @@
 package com.fakestore.automation.tests.auth;
 
+import com.fakestore.automation.contracts.Contract;
 import com.fakestore.automation.dataproviders.AuthDataProvider;
 import com.fakestore.automation.enums.StatusCode;
 import com.fakestore.automation.listeners.ExtentReportListener;
@@ -35,6 +36,9 @@ public class AuthTests extends BaseTest {
         // Validate response is not null
         ResponseValidator.validateResponseNotNull(response);
 
+        // Validate response matches the auth contract
+        ResponseValidator.validateContract(response, Contract.AUTH);
+
         // Deserialize response
         AuthResponse authResponse = response.as(AuthResponse.class);
 
@@ -0,0 +1,176 @@
+package com.fakestore.automation.tests.cache;
+
+import com.fakestore.automation.cache.CachedResponse;
+import com.fakestore.automation.cache.ResponseCache;
+import com.fakestore.automation.constants.ApiEndpoints;
+import com.fakestore.automation.enums.StatusCode;
+import com.fakestore.automation.listeners.ExtentReportListener;
+import com.fakestore.automation.metrics.TestRequestStats;
+import com.fakestore.automation.services.BaseService;
+import com.fakestore.automation.tests.BaseTest;
+import com.fakestore.automation.utils.RequestBuilder;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * The response cache against the stand-in, which sends an {@code ETag} with every successful read and answers
+ * a matching {@code If-None-Match} with a 304. Each test uses a cache of its own and counts the requests that
+ * reached the server in {@link TestRequestStats}, so tests running in parallel do not change what it sees.
+ */
+@Listeners(ExtentReportListener.class)
+public class ResponseCacheTests extends BaseTest {
+    private static final String CART_JSON = "{\"userId\":1,\"products\":[{\"productId\":1,\"quantity\":2}]}";
+
+
+    @BeforeClass
+    public void requireStandIn() {
+        if (!RequestBuilder.getConfig().isStandInEnabled()) {
+            throw new SkipException("Cache tests need the stand-in's ETags (-Denv=local)");
+        }
+    }
+
+
+    @Test(priority = 1, description = "Verify a fresh cached GET is answered without a request")
+    public void testFreshResponseIsServedFromCache() {
+        logTestInfo("TC-CACHE-001", "Verify a fresh cached GET is answered without a request");
+
+        CachedService service = new CachedService(new ResponseCache(true, 60_000, 16, 1 << 20));
+
+        Response miss = service.product(1);
+        Response hit = service.product(1);
+
+        Assert.assertEquals(hit.getStatusCode(), StatusCode.OK.getCode(), "The cached response should be a 200!");
+        Assert.assertEquals(hit.asString(), miss.asString(), "The cached body should be the one received!");
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 1, "Only the miss should reach the server!");
+    }
+
+
+    @Test(priority = 2, description = "Verify a write to a cart drops every cached response of /carts")
+    public void testWriteInvalidatesItsCollection() {
+        logTestInfo("TC-CACHE-002", "Verify a write to a cart drops every cached response of /carts");
+
+        CachedService service = new CachedService(new ResponseCache(true, 60_000, 16, 1 << 20));
+        service.readAll();
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 4, "Every read should miss at first!");
+
+        Response write = service.updateCart(1);
+        Assert.assertEquals(write.getStatusCode(), StatusCode.OK.getCode(), "The cart should be updated!");
+        service.readAll();
+
+        // /carts, /carts/1 and /carts/user/1 again; /products/1 is another collection and still cached
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 8,
+                "The reads of /carts should reach the server again, the product should not!");
+    }
+
+
+    @Test(priority = 3, description = "Verify an expired response is revalidated and renewed by a 304")
+    public void testExpiredResponseIsRevalidated() {
+        logTestInfo("TC-CACHE-003", "Verify an expired response is revalidated and renewed by a 304");
+
+        // Expires at once, so every later read revalidates
+        ResponseCache cache = new ResponseCache(true, 0, 16, 1 << 20);
+        CachedService service = new CachedService(cache);
+
+        Response first = service.product(2);
+        Response revalidated = service.product(2);
+
+        Assert.assertEquals(revalidated.getStatusCode(), StatusCode.OK.getCode(),
+                "The 304 should be answered with the cached 200!");
+        Assert.assertEquals(revalidated.asString(), first.asString(), "The cached body should be returned!");
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 2, "The revalidation should reach the server!");
+        Assert.assertTrue(cache.summary().contains("revalidated 1"), "The 304 should count as a revalidation!");
+    }
+
+
+    @Test(priority = 4, description = "Verify a 304 renews the stored validators, and drops the response with no-store")
+    public void testNotModifiedRenewsValidators() {
+        logTestInfo("TC-CACHE-004", "Verify a 304 renews the stored validators, and drops the response with no-store");
+
+        ResponseCache cache = new ResponseCache(true, 60_000, 16, 1 << 20);
+        String key = "http://cache.test/products/1";
+        cache.put(key, response(200, "\"v1\"", "max-age=60", "{\"id\":1}"), cache.generation());
+        CachedResponse stored = cache.get(key);
+
+        Response renewed = cache.revalidated(key, stored, response(304, "\"v2\"", "max-age=120", ""), cache.generation());
+        Assert.assertEquals(renewed.getHeader("ETag"), "\"v2\"", "The 304's ETag should replace the stored one!");
+        Assert.assertEquals(renewed.getHeader("Cache-Control"), "max-age=120",
+                "The 304's Cache-Control should replace the stored one!");
+        Assert.assertEquals(renewed.asString(), "{\"id\":1}", "The stored body should be kept!");
+        Assert.assertEquals(cache.get(key).getEtag(), "\"v2\"", "The next revalidation should send the new ETag!");
+
+        Response dropped = cache.revalidated(key, cache.get(key), response(304, "\"v3\"", "no-store", ""),
+                cache.generation());
+        Assert.assertEquals(dropped.asString(), "{\"id\":1}", "The response should still be returned!");
+        Assert.assertNull(cache.get(key), "A 304 with no-store should drop the stored response!");
+    }
+
+
+    @Test(priority = 5, description = "Verify a response requested before a write is not cached after it")
+    public void testResponseFromBeforeWriteIsNotCached() {
+        logTestInfo("TC-CACHE-005", "Verify a response requested before a write is not cached after it");
+
+        ResponseCache cache = new ResponseCache(true, 60_000, 16, 1 << 20);
+        String key = "http://cache.test/carts/1";
+
+        // The GET is sent, a write to /carts lands, then the GET's response arrives
+        long requestedAt = cache.generation();
+        cache.invalidate("http://cache.test/carts");
+        cache.put(key, response(200, "\"v1\"", null, "{\"id\":1}"), requestedAt);
+        Assert.assertNull(cache.get(key), "A response requested before the write should not be cached!");
+
+        cache.put(key, response(200, "\"v2\"", null, "{\"id\":1}"), cache.generation());
+        Assert.assertNotNull(cache.get(key), "A response requested after the write should be cached!");
+    }
+
+
+    private static Response response(int status, String etag, String cacheControl, String body) {
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(status)
+                .setContentType("application/json")
+                .setHeader("ETag", etag)
+                .setBody(body);
+        if (cacheControl != null) {
+            builder.setHeader("Cache-Control", cacheControl);
+        }
+        return builder.build();
+    }
+
+
+    // Reads and writes through a cache of the test's own
+    private static final class CachedService extends BaseService {
+        private final ResponseCache cache;
+
+        private CachedService(ResponseCache cache) {
+            this.cache = cache;
+        }
+
+
+        @Override
+        protected ResponseCache responseCache() {
+            return cache;
+        }
+
+
+        private Response product(int id) {
+            return get(ApiEndpoints.PRODUCT_BY_ID, "id", id);
+        }
+
+
+        private void readAll() {
+            get(ApiEndpoints.CARTS);
+            get(ApiEndpoints.CART_BY_ID, "id", 1);
+            get(ApiEndpoints.CARTS_BY_USER, "userId", 1);
+            product(1);
+        }
+
+
+        private Response updateCart(int id) {
+            return putWithJsonString(ApiEndpoints.CART_BY_ID, "id", id, CART_JSON);
+        }
+    }
+}
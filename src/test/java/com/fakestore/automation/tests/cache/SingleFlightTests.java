@@ -0,0 +1,159 @@
+package com.fakestore.automation.tests.cache;
+
+import com.fakestore.automation.cache.SingleFlight;
+import com.fakestore.automation.listeners.ExtentReportListener;
+import com.fakestore.automation.metrics.TestRequestStats;
+import com.fakestore.automation.tests.BaseTest;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * How {@link SingleFlight} shares a request in flight. The leader runs on a thread of its own and is held until
+ * the test thread has joined it as a follower, so no server is involved and the interleaving is fixed.
+ */
+@Listeners(ExtentReportListener.class)
+public class SingleFlightTests extends BaseTest {
+    private static final String KEY = "http://flight.test/carts/1";
+
+
+    @Test(priority = 1, description = "Verify a follower gets a copy of the leader's response and its time")
+    public void testFollowerGetsLeadersResponse() throws Exception {
+        logTestInfo("TC-FLIGHT-001", "Verify a follower gets a copy of the leader's response and its time");
+
+        SingleFlight singleFlight = new SingleFlight(true, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Response> leader = leader(singleFlight, release, () -> response("{\"id\":1}", 42));
+
+        Response follower = join(singleFlight, release, () -> {
+            throw new AssertionError("A follower must not send a request of its own");
+        });
+
+        Assert.assertEquals(follower.asString(), "{\"id\":1}", "The follower should get the leader's body!");
+        Assert.assertEquals(follower.getTime(), 42, "The follower should get the leader's measured time!");
+        Assert.assertEquals(leader.get(10, TimeUnit.SECONDS).asString(), "{\"id\":1}",
+                "The leader should still get its body!");
+        Assert.assertEquals(TestRequestStats.current().getCoalesced(), 1, "The follower should count as coalesced!");
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 0, "The follower sent no request!");
+    }
+
+
+    @Test(priority = 2, description = "Verify a follower gets a failure of its own caused by the leader's")
+    public void testFollowerGetsWrappedFailure() {
+        logTestInfo("TC-FLIGHT-002", "Verify a follower gets a failure of its own caused by the leader's");
+
+        SingleFlight singleFlight = new SingleFlight(true, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AssertionError leaderFailure = new AssertionError("connection reset");
+        CompletableFuture<Response> leader = leader(singleFlight, release, () -> {
+            throw leaderFailure;
+        });
+
+        IllegalStateException failure = Assert.expectThrows(IllegalStateException.class,
+                () -> join(singleFlight, release, () -> null));
+
+        Assert.assertSame(failure.getCause(), leaderFailure, "The follower's failure should be caused by the leader's!");
+        Assert.assertTrue(leader.isCompletedExceptionally(), "The leader should get its own failure!");
+    }
+
+
+    @Test(priority = 3, description = "Verify a read after a write to its collection does not join a read sent before")
+    public void testWriteDetachesFlights() throws Exception {
+        logTestInfo("TC-FLIGHT-003", "Verify a read after a write to its collection does not join a read sent before");
+
+        SingleFlight singleFlight = new SingleFlight(true, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Response> leader = leader(singleFlight, release, () -> response("{\"version\":1}", 5));
+
+        singleFlight.detach("http://flight.test/carts");
+        Response afterWrite = singleFlight.execute(KEY, () -> response("{\"version\":2}", 5));
+        release.countDown();
+
+        Assert.assertEquals(afterWrite.asString(), "{\"version\":2}", "The read after the write should be sent!");
+        Assert.assertEquals(leader.get(10, TimeUnit.SECONDS).asString(), "{\"version\":1}",
+                "The read before the write should complete as it was!");
+        Assert.assertEquals(singleFlight.getCoalesced(), 0, "Nothing should have been coalesced!");
+    }
+
+
+    @Test(priority = 4, description = "Verify a follower stops waiting for a leader that does not complete")
+    public void testFollowerWaitIsBounded() {
+        logTestInfo("TC-FLIGHT-004", "Verify a follower stops waiting for a leader that does not complete");
+
+        SingleFlight singleFlight = new SingleFlight(true, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        leader(singleFlight, release, () -> response("{}", 0));
+
+        try {
+            IllegalStateException failure = Assert.expectThrows(IllegalStateException.class,
+                    () -> singleFlight.execute(KEY, () -> null));
+            Assert.assertTrue(failure.getMessage().contains("did not complete within 50 ms"),
+                    "The failure should say how long the follower waited, but was: " + failure.getMessage());
+        } finally {
+            release.countDown();
+        }
+    }
+
+
+    // Starts the leader for KEY and returns once its call is running; the call completes after release
+    private static CompletableFuture<Response> leader(SingleFlight singleFlight, CountDownLatch release,
+                                                      Supplier<Response> call) {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Response> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(KEY, () -> {
+            started.countDown();
+            await(release);
+            return call.get();
+        }));
+        await(started);
+        return leader;
+    }
+
+
+    // Joins the leader's flight on this thread, releasing the leader once joined
+    private static Response join(SingleFlight singleFlight, CountDownLatch release, Supplier<Response> call) {
+        Thread.ofPlatform().daemon().start(() -> {
+            try {
+                while (singleFlight.getCoalesced() == 0) {
+                    TimeUnit.MILLISECONDS.sleep(1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        return singleFlight.execute(KEY, call);
+    }
+
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS), "Timed out waiting for the other thread!");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private static Response response(String body, long timeMillis) {
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+        ((RestAssuredResponseImpl) response).setFilterContextProperties(
+                Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, timeMillis));
+        return response;
+    }
+}
@@ -1,5 +1,6 @@
 package com.fakestore.automation.tests.carts;
 
+import com.fakestore.automation.contracts.Contract;
 import com.fakestore.automation.dataproviders.CartDataProvider;
 import com.fakestore.automation.enums.StatusCode;
 import com.fakestore.automation.listeners.ExtentReportListener;
@@ -11,7 +12,10 @@ import org.testng.Assert;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Listeners(ExtentReportListener.class)
 public class CartGetTests extends BaseTest {
@@ -36,6 +40,9 @@ public class CartGetTests extends BaseTest {
         // Validate response is an array
         ResponseValidator.validateResponseIsArray(response);
 
+        // Validate response matches the cart list contract
+        ResponseValidator.validateContract(response, Contract.CART_LIST);
+
         // Deserialize response to list of carts
         List<CartResponse> carts = response.jsonPath().getList("$", CartResponse.class);
 
@@ -227,4 +234,27 @@ public class CartGetTests extends BaseTest {
             logger.info("Non-existent user correctly returned error response");
         }
     }
-}
\ No newline at end of file
+
+
+    @Test(priority = 16, description = "Verify streaming all carts binds every cart with its products")
+    public void testStreamAllCarts() {
+        logTestInfo("TC-CART-016", "Verify streaming all carts binds every cart with its products");
+
+        // Stream the carts; each cart is validated as soon as it has been read
+        Set<Integer> cartIds = new HashSet<>();
+        try (Stream<CartResponse> carts = cartService.streamAllCarts()) {
+            carts.forEach(cart -> {
+                Assert.assertNotNull(cart.getId(), "Cart ID should not be null!");
+                Assert.assertNotNull(cart.getUserId(), "Cart user ID should not be null!");
+                Assert.assertNotNull(cart.getProducts(), "Cart products should not be null!");
+                Assert.assertFalse(cart.getProducts().isEmpty(), "Cart products should not be empty!");
+                Assert.assertTrue(cartIds.add(cart.getId()), "Duplicate cart ID: " + cart.getId());
+            });
+        }
+
+        // Validate carts were returned
+        Assert.assertFalse(cartIds.isEmpty(), "Carts stream should not be empty!");
+
+        logger.info("Streamed {} carts with valid structure", cartIds.size());
+    }
+}
@@ -0,0 +1,74 @@
+package com.fakestore.automation.tests.products;
+
+import com.fakestore.automation.enums.StatusCode;
+import com.fakestore.automation.listeners.ExtentReportListener;
+import com.fakestore.automation.models.response.ProductResponse;
+import com.fakestore.automation.tests.BaseTest;
+import com.fakestore.automation.utils.ResponseValidator;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Listeners(ExtentReportListener.class)
+public class ProductAsyncTests extends BaseTest {
+
+
+    @Test(priority = 16, description = "Verify concurrent async requests for many products all succeed")
+    public void testGetProductsByIdConcurrently() {
+        logTestInfo("TC-PROD-016", "Verify concurrent async requests for many products all succeed");
+
+        int productCount = 20;
+
+        // Fire all requests before waiting on any of them
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int productId = 1; productId <= productCount; productId++) {
+            futures.add(asyncProductService.getProductById(productId));
+        }
+
+        // Wait for every in-flight request to complete
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // Validate each response matches the product it was issued for
+        for (int i = 0; i < productCount; i++) {
+            Response response = futures.get(i).join();
+            ResponseValidator.validateStatusCode(response, StatusCode.OK.getCode());
+            ResponseValidator.validateResponseNotNull(response);
+
+            ProductResponse product = response.as(ProductResponse.class);
+            Assert.assertEquals(product.getId(), Integer.valueOf(i + 1),
+                    "Product ID should match requested ID!");
+            Assert.assertNotNull(product.getTitle(), "Product title should not be null!");
+        }
+
+        logger.info("Successfully retrieved {} products concurrently", productCount);
+    }
+
+
+    @Test(priority = 17, description = "Verify async request for all products returns a non-empty array")
+    public void testGetAllProductsAsync() {
+        logTestInfo("TC-PROD-017", "Verify async request for all products returns a non-empty array");
+
+        // Send async GET request and wait for completion
+        Response response = asyncProductService.getAllProducts().join();
+
+        // Log response
+        ResponseValidator.logResponse(response);
+
+        // Validate status code
+        ResponseValidator.validateStatusCode(response, StatusCode.OK.getCode());
+
+        // Validate response is an array
+        ResponseValidator.validateResponseIsArray(response);
+
+        // Deserialize response to list of products
+        List<ProductResponse> products = response.jsonPath().getList("$", ProductResponse.class);
+        Assert.assertFalse(products.isEmpty(), "Products list should not be empty!");
+
+        logger.info("Async request returned {} products", products.size());
+    }
+}
@@ -1,20 +1,31 @@
 package com.fakestore.automation.tests.products;
 
+import com.fakestore.automation.contracts.Contract;
 import com.fakestore.automation.dataproviders.ProductDataProvider;
+import com.fakestore.automation.enums.ProductCategory;
 import com.fakestore.automation.enums.StatusCode;
 import com.fakestore.automation.listeners.ExtentReportListener;
 import com.fakestore.automation.models.response.ProductResponse;
 import com.fakestore.automation.tests.BaseTest;
+import com.fakestore.automation.utils.ElementRules;
 import com.fakestore.automation.utils.ResponseValidator;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Listeners(ExtentReportListener.class)
 public class ProductGetTests extends BaseTest {
+    private static final ElementRules PRODUCT_RULES = new ElementRules()
+            .notNull("id", "title", "price", "description", "category", "image")
+            .range("price", 0.01, 10_000)
+            .range("rating.rate", 0, 5)
+            .oneOf("category", ProductCategory.labels());
 
 
     @Test(priority = 1, description = "Verify getting all products successfully")
@@ -36,25 +47,17 @@ public class ProductGetTests extends BaseTest {
         // Validate response is an array
         ResponseValidator.validateResponseIsArray(response);
 
-        // Deserialize response to list of products
-        List<ProductResponse> products = response.jsonPath().getList("$", ProductResponse.class);
+        // Validate response matches the product list contract
+        ResponseValidator.validateContract(response, Contract.PRODUCT_LIST);
 
         // Validate products list is not empty
-        Assert.assertFalse(products.isEmpty(), "Products list should not be empty!");
+        int productCount = ResponseValidator.session(response).tree().getAsJsonArray().size();
+        Assert.assertTrue(productCount > 0, "Products list should not be empty!");
 
-        logger.info("Total products returned: {}", products.size());
-
-        // Validate each product has required fields
-        for (ProductResponse product : products) {
-            Assert.assertNotNull(product.getId(), "Product ID should not be null!");
-            Assert.assertNotNull(product.getTitle(), "Product title should not be null!");
-            Assert.assertNotNull(product.getPrice(), "Product price should not be null!");
-            Assert.assertNotNull(product.getDescription(), "Product description should not be null!");
-            Assert.assertNotNull(product.getCategory(), "Product category should not be null!");
-            Assert.assertNotNull(product.getImage(), "Product image should not be null!");
+        logger.info("Total products returned: {}", productCount);
 
-            logger.debug("Validated product: ID={}, Title={}", product.getId(), product.getTitle());
-        }
+        // Validate every product against the catalog rules, reporting all violations at once
+        ResponseValidator.validateEachElement(response, PRODUCT_RULES);
 
         logger.info("All products have valid structure with required fields");
     }
@@ -146,6 +149,9 @@ public class ProductGetTests extends BaseTest {
         // Validate response is not null
         ResponseValidator.validateResponseNotNull(response);
 
+        // Validate response matches the product contract
+        ResponseValidator.validateContract(response, Contract.PRODUCT);
+
         // Deserialize response to product object
         ProductResponse product = response.as(ProductResponse.class);
 
@@ -218,4 +224,32 @@ public class ProductGetTests extends BaseTest {
 
         logger.info("Invalid product ID format correctly rejected with status 400");
     }
-}
\ No newline at end of file
+
+
+    @Test(priority = 18, description = "Verify streaming all products binds every product with required fields")
+    public void testStreamAllProducts() {
+        logTestInfo("TC-PROD-018", "Verify streaming all products binds every product with required fields");
+
+        // Stream the catalog; each product is validated as soon as it has been read
+        Set<Integer> productIds = new HashSet<>();
+        try (Stream<ProductResponse> products = productService.streamAllProducts()) {
+            products.forEach(product -> {
+                Assert.assertNotNull(product.getId(), "Product ID should not be null!");
+                Assert.assertNotNull(product.getTitle(), "Product title should not be null!");
+                Assert.assertNotNull(product.getPrice(), "Product price should not be null!");
+                Assert.assertNotNull(product.getCategory(), "Product category should not be null!");
+                Assert.assertTrue(productIds.add(product.getId()), "Duplicate product ID: " + product.getId());
+            });
+        }
+
+        // Validate products were returned
+        Assert.assertFalse(productIds.isEmpty(), "Products stream should not be empty!");
+
+        // Validate the limit parameter applies to the streamed listing too
+        try (Stream<ProductResponse> limited = productService.streamAllProductsWithLimit(5)) {
+            Assert.assertEquals(limited.count(), Math.min(5, productIds.size()), "Streamed product count should match limit!");
+        }
+
+        logger.info("Streamed {} products with valid structure", productIds.size());
+    }
+}
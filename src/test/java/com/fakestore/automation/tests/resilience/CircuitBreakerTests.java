@@ -0,0 +1,75 @@
+package com.fakestore.automation.tests.resilience;
+
+import com.fakestore.automation.listeners.ExtentReportListener;
+import com.fakestore.automation.resilience.CircuitBreaker;
+import com.fakestore.automation.resilience.CircuitBreakerPolicy;
+import com.fakestore.automation.resilience.CircuitOpenException;
+import com.fakestore.automation.resilience.CircuitState;
+import com.fakestore.automation.tests.BaseTest;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How a {@link CircuitBreaker} treats the permissions it grants. Each test drives a breaker of its own directly,
+ * opened after 2 failed calls for 1 ms and probing with a single call, so no server is involved.
+ */
+@Listeners(ExtentReportListener.class)
+public class CircuitBreakerTests extends BaseTest {
+
+
+    @Test(priority = 1, description = "Verify the outcome of a call granted before the circuit opened is ignored")
+    public void testStaleOutcomeIsIgnored() throws InterruptedException {
+        logTestInfo("TC-CIRCUIT-001", "Verify the outcome of a call granted before the circuit opened is ignored");
+
+        CircuitBreaker breaker = breaker();
+        long slowCall = breaker.acquirePermission();
+        long probe = openThenProbe(breaker);
+
+        breaker.onResponse(slowCall, 0, 200);
+        Assert.assertEquals(breaker.getState(), CircuitState.HALF_OPEN, "A stale success must not close the circuit!");
+
+        breaker.releasePermission(slowCall);
+        Assert.expectThrows(CircuitOpenException.class, breaker::acquirePermission);
+
+        breaker.onResponse(probe, 0, 200);
+        Assert.assertEquals(breaker.getState(), CircuitState.CLOSED, "The probe's success should close the circuit!");
+    }
+
+
+    @Test(priority = 2, description = "Verify a released probe permission lets another probe through")
+    public void testReleasedProbeCanBeRetaken() throws InterruptedException {
+        logTestInfo("TC-CIRCUIT-002", "Verify a released probe permission lets another probe through");
+
+        CircuitBreaker breaker = breaker();
+        long probe = openThenProbe(breaker);
+        Assert.expectThrows(CircuitOpenException.class, breaker::acquirePermission);
+
+        breaker.releasePermission(probe);
+        long nextProbe = breaker.acquirePermission();
+        breaker.onFailure(nextProbe, 0, "connection reset");
+
+        Assert.assertEquals(breaker.getState(), CircuitState.OPEN, "The failed probe should open the circuit again!");
+    }
+
+
+    private static CircuitBreaker breaker() {
+        return new CircuitBreakerPolicy(true, 4, 2, 50, 100, Duration.ofSeconds(10), Duration.ofMillis(1), 1)
+                .breaker("http://circuit.test", "/route");
+    }
+
+
+    // Opens the circuit with two failed calls, waits out the open period and takes the single probe permission
+    private static long openThenProbe(CircuitBreaker breaker) throws InterruptedException {
+        breaker.onFailure(breaker.acquirePermission(), 0, "connection reset");
+        breaker.onFailure(breaker.acquirePermission(), 0, "connection reset");
+        Assert.assertEquals(breaker.getState(), CircuitState.OPEN, "Two failed calls should open the circuit!");
+        TimeUnit.MILLISECONDS.sleep(5);
+        long probe = breaker.acquirePermission();
+        Assert.assertEquals(breaker.getState(), CircuitState.HALF_OPEN, "The circuit should be probing!");
+        return probe;
+    }
+}
@@ -0,0 +1,148 @@
+package com.fakestore.automation.tests.resilience;
+
+import com.fakestore.automation.enums.StatusCode;
+import com.fakestore.automation.listeners.ExtentReportListener;
+import com.fakestore.automation.metrics.RetryStats;
+import com.fakestore.automation.metrics.RetrySummary;
+import com.fakestore.automation.metrics.TestRequestStats;
+import com.fakestore.automation.resilience.RetryBudget;
+import com.fakestore.automation.resilience.RetryPolicy;
+import com.fakestore.automation.services.ApiRequest;
+import com.fakestore.automation.services.BaseService;
+import com.fakestore.automation.standin.FakeStoreStandInServer;
+import com.fakestore.automation.tests.BaseTest;
+import com.fakestore.automation.utils.RequestBuilder;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Retries against the stand-in's {@code /flaky} route, which answers 503 a given number of times per key.
+ * Every key has a route of its own, so its 503s never open the circuit of another test's route. Each test
+ * counts into {@link RetryStats} of its own and {@link TestRequestStats}, so tests running in parallel -
+ * here or in other {@code <test>} blocks - do not change what it sees.
+ */
+@Listeners(ExtentReportListener.class)
+public class RetryTests extends BaseTest {
+
+
+    @BeforeClass
+    public void requireStandIn() {
+        if (!RequestBuilder.getConfig().isStandInEnabled()) {
+            throw new SkipException("Retry tests need the stand-in's " + FakeStoreStandInServer.FLAKY + " route (-Denv=local)");
+        }
+    }
+
+
+    @Test(priority = 1, description = "Verify a GET failing with 503 is retried with backoff until it succeeds")
+    public void testGetRecoversAfterRetries() {
+        logTestInfo("TC-RETRY-001", "Verify a GET failing with 503 is retried with backoff until it succeeds");
+
+        // Up to 3 attempts, waiting at most 10 ms before the first retry and 20 ms before the second
+        RetryStats stats = new RetryStats();
+        FlakyService service = new FlakyService(new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(40),
+                Set.of(Method.GET), Set.of(503), new RetryBudget(0.1, 5), stats));
+
+        Response response = service.send(Method.GET, "get-recovers", 2);
+
+        RetrySummary summary = stats.snapshot();
+        Assert.assertEquals(response.getStatusCode(), StatusCode.OK.getCode(), "The third attempt should succeed!");
+        Assert.assertEquals(response.jsonPath().getInt("requests"), 3, "The stand-in should have seen 3 requests!");
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 3, "Every attempt should be recorded!");
+        Assert.assertEquals(summary.retries(), 2, "Two retries should have been sent!");
+        Assert.assertEquals(summary.recovered(), 1, "The request should count as recovered!");
+        Assert.assertTrue(summary.backoffMillis() >= 0 && summary.backoffMillis() <= 30,
+                "Backoff should stay within the jitter ceilings of 10 + 20 ms, but was: " + summary.backoffMillis());
+    }
+
+
+    @Test(priority = 2, description = "Verify a GET still failing after the last attempt returns the 503")
+    public void testGetGivesUpAfterMaxAttempts() {
+        logTestInfo("TC-RETRY-002", "Verify a GET still failing after the last attempt returns the 503");
+
+        RetryStats stats = new RetryStats();
+        FlakyService service = new FlakyService(new RetryPolicy(3, Duration.ZERO, Duration.ZERO,
+                Set.of(Method.GET), Set.of(503), new RetryBudget(0.1, 5), stats));
+
+        Response response = service.send(Method.GET, "get-exhausted", 5);
+
+        RetrySummary summary = stats.snapshot();
+        Assert.assertEquals(response.getStatusCode(), StatusCode.SERVICE_UNAVAILABLE.getCode(),
+                "The last 503 should be returned!");
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 3, "No more than 3 attempts should be sent!");
+        Assert.assertEquals(summary.exhausted(), 1, "The request should count as exhausted!");
+        Assert.assertEquals(summary.recovered(), 0, "A failed request must not count as recovered!");
+    }
+
+
+    @Test(priority = 3, description = "Verify retries stop once the retry budget is spent")
+    public void testRetriesStopWhenBudgetIsSpent() {
+        logTestInfo("TC-RETRY-003", "Verify retries stop once the retry budget is spent");
+
+        // Earns nothing, so only the initial burst of 10 retries can be spent
+        RetryStats stats = new RetryStats();
+        FlakyService service = new FlakyService(new RetryPolicy(2, Duration.ZERO, Duration.ZERO,
+                Set.of(Method.GET), Set.of(503), new RetryBudget(0, 0), stats));
+
+        for (int i = 1; i <= 10; i++) {
+            Response response = service.send(Method.GET, "budget-" + i, 1);
+            Assert.assertEquals(response.getStatusCode(), StatusCode.OK.getCode(),
+                    "Request " + i + " should recover within the budget!");
+        }
+        Response denied = service.send(Method.GET, "budget-11", 1);
+
+        RetrySummary summary = stats.snapshot();
+        Assert.assertEquals(denied.getStatusCode(), StatusCode.SERVICE_UNAVAILABLE.getCode(),
+                "The request after the budget is spent should not be retried!");
+        Assert.assertEquals(summary.retries(), 10, "Only the budgeted retries should be sent!");
+        Assert.assertEquals(summary.budgetDenied(), 1, "One retry should be denied!");
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 21, "The denied retry should not be sent!");
+    }
+
+
+    @Test(priority = 4, description = "Verify a POST failing with 503 is not retried under the default policy")
+    public void testPostIsNotRetried() {
+        logTestInfo("TC-RETRY-004", "Verify a POST failing with 503 is not retried under the default policy");
+
+        FlakyService service = new FlakyService(RetryPolicy.from(RequestBuilder.getConfig()));
+
+        Response response = service.send(Method.POST, "post-once", 1);
+
+        Assert.assertEquals(response.getStatusCode(), StatusCode.SERVICE_UNAVAILABLE.getCode(),
+                "The 503 of the POST should be returned as it is!");
+        Assert.assertEquals(TestRequestStats.current().getRequests(), 1, "The POST should be sent once!");
+
+        // The stand-in counts the key's requests, so the next one shows how many POSTs reached it
+        Response followUp = service.send(Method.GET, "post-once", 1);
+        Assert.assertEquals(followUp.jsonPath().getInt("requests"), 2, "The stand-in should have seen a single POST!");
+    }
+
+
+    // Sends to the flaky route under the policy of the test
+    private static final class FlakyService extends BaseService {
+        private final RetryPolicy policy;
+
+        private FlakyService(RetryPolicy policy) {
+            this.policy = policy;
+        }
+
+
+        @Override
+        protected RetryPolicy retryPolicy() {
+            return policy;
+        }
+
+
+        private Response send(Method method, String key, int failures) {
+            return execute(ApiRequest.of(method, FakeStoreStandInServer.FLAKY + "/" + key)
+                    .withQueryParam("failures", failures));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.fakestore.automation.tests.validation;
+
+import com.fakestore.automation.enums.StatusCode;
+import com.fakestore.automation.listeners.ExtentReportListener;
+import com.fakestore.automation.tests.BaseTest;
+import com.fakestore.automation.utils.ResponseValidator;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * What {@link ResponseValidator#validateErrorResponse} accepts: an empty body, or one matching the ERROR contract.
+ * The responses are built here rather than requested, so the rejected shapes do not depend on the server.
+ */
+@Listeners(ExtentReportListener.class)
+public class ErrorResponseValidationTests extends BaseTest {
+
+
+    @Test(priority = 1, description = "Verify error responses with a message, and empty ones, are accepted")
+    public void testErrorResponseWithMessageIsAccepted() {
+        logTestInfo("TC-VAL-001", "Verify error responses with a message, and empty ones, are accepted");
+
+        ResponseValidator.validateErrorResponse(response("{\"status\":\"error\",\"message\":\"not found\"}"));
+        ResponseValidator.validateErrorResponse(response("{\"status\":404,\"error\":\"Not Found\",\"message\":\"not found\"}"));
+        ResponseValidator.validateErrorResponse(response(""));
+    }
+
+
+    @Test(priority = 2, description = "Verify an error response without a message is rejected")
+    public void testErrorResponseWithoutMessageIsRejected() {
+        logTestInfo("TC-VAL-002", "Verify an error response without a message is rejected");
+
+        AssertionError failure = Assert.expectThrows(AssertionError.class,
+                () -> ResponseValidator.validateErrorResponse(response("{\"status\":\"error\",\"error\":\"not found\"}")));
+
+        Assert.assertTrue(failure.getMessage().contains("ERROR contract"),
+                "Failure should name the violated contract, but was: " + failure.getMessage());
+        Assert.assertTrue(failure.getMessage().contains("message"),
+                "Failure should name the missing field, but was: " + failure.getMessage());
+    }
+
+
+    @Test(priority = 3, description = "Verify a plain-text error body is rejected")
+    public void testPlainTextErrorResponseIsRejected() {
+        logTestInfo("TC-VAL-003", "Verify a plain-text error body is rejected");
+
+        Assert.expectThrows(AssertionError.class,
+                () -> ResponseValidator.validateErrorResponse(response("error: not found")));
+    }
+
+
+    private static Response response(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(StatusCode.NOT_FOUND.getCode())
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}